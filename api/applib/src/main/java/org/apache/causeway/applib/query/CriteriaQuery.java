@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+
+import lombok.NonNull;
+
+/**
+ * Query for all instances of the result type, that match all of the given {@link QueryCriterion}s
+ * (a conjunction), as translated by the underlying persistence mechanism.
+ *
+ * <p>
+ *     Unlike {@link org.apache.causeway.applib.services.repository.RepositoryService#allMatches(Class, java.util.function.Predicate)},
+ *     the criteria are evaluated by the database, so only matching instances are ever loaded.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface CriteriaQuery<T> extends Query<T> {
+
+    /**
+     * The criteria all instances returned have to match (a conjunction).
+     */
+    List<QueryCriterion> getCriteria();
+
+    // -- WITHERS
+
+    @Override CriteriaQuery<T> withRange(@NonNull QueryRange range);
+
+    @Override CriteriaQuery<T> withOrdering(@NonNull QueryOrdering ...orderings);
+
+    /**
+     * Returns a copy of this query, with given {@code criteria} added to the existing ones.
+     */
+    CriteriaQuery<T> and(@NonNull QueryCriterion ...criteria);
+
+}
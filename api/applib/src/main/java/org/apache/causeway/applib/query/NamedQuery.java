@@ -36,6 +36,8 @@
 
     @Override NamedQuery<T> withRange(@NonNull QueryRange range);
 
+    @Override NamedQuery<T> withOrdering(@NonNull QueryOrdering ...orderings);
+
     NamedQuery<T> withParameter(@NonNull String parameterName, @Nullable Object parameterValue);
 
 }
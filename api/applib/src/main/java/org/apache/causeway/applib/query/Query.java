@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.query;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -37,6 +38,8 @@
  * method, which is used to support range / paging
  * the data. Returned result sets are expected to start from index "start",
  * and no more than "count" items are expected.
+ * Likewise, implementations are expected to implement the {@link #getOrderings()}
+ * method, which is used to support sorting the data.
  * <p>
  * <b>Note:</b> not every object store will necessarily support this
  * interface. In particular, the in-memory object store does not. For this, you
@@ -65,10 +68,22 @@
      */
     QueryRange getRange();
 
+    /**
+     * Returns the orderings to apply to the query's result, in order of precedence.
+     * <p>
+     * If empty, the order is as determined by the query itself (if at all).
+     */
+    List<QueryOrdering> getOrderings();
+
     // -- WITHERS
 
     Query<T> withRange(@NonNull QueryRange range);
 
+    /**
+     * Returns a copy of this query, with its orderings replaced by given {@code orderings}.
+     */
+    Query<T> withOrdering(@NonNull QueryOrdering ...orderings);
+
     default Query<T> withRange(long ...range) {
         return withRange(QueryRange.of(range));
     }
@@ -85,13 +100,23 @@ default Query<T> withLimit(long limit) {
 
     static <T> Query<T> allInstances(
             final @NonNull Class<T> resultType) {
-        return new _AllInstancesQueryDefault<>(resultType, QueryRange.unconstrained());
+        return new _AllInstancesQueryDefault<>(resultType, QueryRange.unconstrained(), null);
+    }
+
+    /**
+     * Query for all instances of given {@code resultType}, matching all of given {@code criteria}.
+     */
+    static <T> CriteriaQuery<T> where(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryCriterion ...criteria) {
+        return new _CriteriaQueryDefault<>(resultType, QueryRange.unconstrained(), null, List.of())
+                .and(criteria);
     }
 
     static <T> NamedQuery<T> named(
             final @NonNull Class<T> resultType,
             final @NonNull String queryName) {
-        return new _NamedQueryDefault<>(resultType, queryName, QueryRange.unconstrained(), null);
+        return new _NamedQueryDefault<>(resultType, queryName, QueryRange.unconstrained(), null, null);
     }
 
 }
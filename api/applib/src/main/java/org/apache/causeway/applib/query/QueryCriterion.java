@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import org.springframework.lang.Nullable;
+
+import lombok.NonNull;
+
+/**
+ * A single (typed) restriction on a property of a {@link CriteriaQuery}'s result type,
+ * that is translated by the underlying persistence mechanism (eg. into JPA Criteria or JDOQL),
+ * rather than evaluated client-side.
+ *
+ * @see CriteriaQuery
+ * @since 2.0 {@index}
+ */
+public interface QueryCriterion extends Serializable {
+
+    enum Operator {
+        /** property equals value; or is {@code null}, if value is {@code null} */
+        EQUAL,
+        GREATER_THAN,
+        GREATER_THAN_OR_EQUAL,
+        LESS_THAN,
+        LESS_THAN_OR_EQUAL,
+        /** property equals any of the values of a {@link Collection} */
+        IN,
+        /**
+         * property (of type {@link String}) matches a pattern, using SQL <code>LIKE</code> semantics
+         * (<code>%</code> matches any sequence of characters, <code>_</code> matches any single character)
+         */
+        LIKE;
+    }
+
+    // -- INTERFACE
+
+    /**
+     * Name of the (persistent) property to restrict, nested properties may be navigated using dots.
+     */
+    String getPropertyName();
+
+    Operator getOperator();
+
+    /**
+     * The value to compare the property with;
+     * a {@link Collection} for {@link Operator#IN}, a {@link String} pattern for {@link Operator#LIKE}.
+     */
+    @Nullable Object getValue();
+
+    // -- FACTORIES
+
+    static QueryCriterion equal(final @NonNull String propertyName, final @Nullable Object value) {
+        return new _QueryCriterionDefault(propertyName, Operator.EQUAL, value);
+    }
+
+    static <V extends Comparable<? super V>> QueryCriterion greaterThan(
+            final @NonNull String propertyName, final @NonNull V value) {
+        return new _QueryCriterionDefault(propertyName, Operator.GREATER_THAN, value);
+    }
+
+    static <V extends Comparable<? super V>> QueryCriterion greaterThanOrEqual(
+            final @NonNull String propertyName, final @NonNull V value) {
+        return new _QueryCriterionDefault(propertyName, Operator.GREATER_THAN_OR_EQUAL, value);
+    }
+
+    static <V extends Comparable<? super V>> QueryCriterion lessThan(
+            final @NonNull String propertyName, final @NonNull V value) {
+        return new _QueryCriterionDefault(propertyName, Operator.LESS_THAN, value);
+    }
+
+    static <V extends Comparable<? super V>> QueryCriterion lessThanOrEqual(
+            final @NonNull String propertyName, final @NonNull V value) {
+        return new _QueryCriterionDefault(propertyName, Operator.LESS_THAN_OR_EQUAL, value);
+    }
+
+    static QueryCriterion in(final @NonNull String propertyName, final @NonNull Collection<?> values) {
+        return new _QueryCriterionDefault(propertyName, Operator.IN, values);
+    }
+
+    static QueryCriterion like(final @NonNull String propertyName, final @NonNull String pattern) {
+        return new _QueryCriterionDefault(propertyName, Operator.LIKE, pattern);
+    }
+
+}
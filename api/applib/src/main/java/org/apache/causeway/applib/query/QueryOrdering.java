@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+
+import lombok.NonNull;
+
+/**
+ * To support sorting of query results, specifies a property of the query's result type
+ * and the direction to order by.
+ *
+ * <p>
+ *     Used by {@link Query#withOrdering(QueryOrdering...)}, pushed down to the underlying
+ *     persistence mechanism, such that paging via {@link QueryRange} is consistent
+ *     with the requested order.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface QueryOrdering extends Serializable {
+
+    // -- INTERFACE
+
+    /**
+     * Name of the (persistent) property to order by.
+     */
+    String getPropertyName();
+
+    /**
+     * Whether to order ascending, otherwise descending.
+     */
+    boolean isAscending();
+
+    // -- FACTORIES
+
+    static QueryOrdering ascending(final @NonNull String propertyName) {
+        return of(propertyName, true);
+    }
+
+    static QueryOrdering descending(final @NonNull String propertyName) {
+        return of(propertyName, false);
+    }
+
+    static QueryOrdering of(final @NonNull String propertyName, final boolean ascending) {
+        return new _QueryOrderingDefault(propertyName, ascending);
+    }
+
+}
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.applib.query;
 
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
 import lombok.NonNull;
 
 final class _AllInstancesQueryDefault<T> 
@@ -28,20 +32,26 @@
 
     protected _AllInstancesQueryDefault(
             final @NonNull Class<T> type, 
-            final @NonNull QueryRange range) {
-        super(type, range);
+            final @NonNull QueryRange range,
+            final @Nullable List<QueryOrdering> orderings) {
+        super(type, range, orderings);
     }
 
     @Override
     public String getDescription() {
-        return getResultType().getName() + " (all instances)";
+        return getResultType().getName() + " (all instances)" + orderingsDescription();
     }
 
     // -- WITHERS
     
     @Override
     public _AllInstancesQueryDefault<T> withRange(final @NonNull QueryRange range) {
-        return new _AllInstancesQueryDefault<>(getResultType(), range);
+        return new _AllInstancesQueryDefault<>(getResultType(), range, getOrderings());
+    }
+
+    @Override
+    public _AllInstancesQueryDefault<T> withOrdering(final @NonNull QueryOrdering... orderings) {
+        return new _AllInstancesQueryDefault<>(getResultType(), getRange(), toList(orderings));
     }
 
 
@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+final class _CriteriaQueryDefault<T>
+extends _QueryAbstract<T>
+implements CriteriaQuery<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Getter(onMethod_ = {@Override})
+    private final @NonNull List<QueryCriterion> criteria;
+
+    protected _CriteriaQueryDefault(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryRange range,
+            final @Nullable List<QueryOrdering> orderings,
+            final @Nullable List<QueryCriterion> criteria) {
+        super(resultType, range, orderings);
+        this.criteria = criteria==null
+                ? List.of()
+                : List.copyOf(criteria);
+    }
+
+    @Override
+    public String getDescription() {
+        return getResultType().getName() + " matching " + getCriteria() + orderingsDescription();
+    }
+
+    // -- WITHERS
+
+    @Override
+    public _CriteriaQueryDefault<T> withRange(final @NonNull QueryRange range) {
+        return new _CriteriaQueryDefault<>(getResultType(), range, getOrderings(), getCriteria());
+    }
+
+    @Override
+    public _CriteriaQueryDefault<T> withOrdering(final @NonNull QueryOrdering... orderings) {
+        return new _CriteriaQueryDefault<>(getResultType(), getRange(), toList(orderings), getCriteria());
+    }
+
+    @Override
+    public _CriteriaQueryDefault<T> and(final @NonNull QueryCriterion... criteria) {
+        final List<QueryCriterion> combined = new ArrayList<>(getCriteria());
+        combined.addAll(toList(criteria));
+        return new _CriteriaQueryDefault<>(getResultType(), getRange(), getOrderings(), combined);
+    }
+
+}
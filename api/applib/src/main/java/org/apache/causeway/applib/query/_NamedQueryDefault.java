@@ -20,6 +20,7 @@
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.lang.Nullable;
@@ -46,8 +47,9 @@ protected _NamedQueryDefault(
             final @NonNull Class<T> resultType, 
             final @NonNull String queryName, 
             final @NonNull QueryRange range,
+            final @Nullable List<QueryOrdering> orderings,
             final @Nullable Map<String, Object> parametersByName) {
-        super(resultType, range);
+        super(resultType, range, orderings);
         this.name = queryName;
         this.parametersByName = parametersByName==null 
                 ? Collections.emptyMap()
@@ -56,14 +58,19 @@ protected _NamedQueryDefault(
 
     @Override
     public String getDescription() {
-        return getName() + " with " + getParametersByName();
+        return getName() + " with " + getParametersByName() + orderingsDescription();
     }
     
     // -- WITHERS
     
     @Override
     public _NamedQueryDefault<T> withRange(final @NonNull QueryRange range) {
-        return new _NamedQueryDefault<>(getResultType(),  getName(), range, getParametersByName());
+        return new _NamedQueryDefault<>(getResultType(),  getName(), range, getOrderings(), getParametersByName());
+    }
+
+    @Override
+    public _NamedQueryDefault<T> withOrdering(final @NonNull QueryOrdering... orderings) {
+        return new _NamedQueryDefault<>(getResultType(),  getName(), getRange(), toList(orderings), getParametersByName());
     }
 
     @Override
@@ -77,7 +84,7 @@ public NamedQuery<T> withParameter(
                 ? new HashMap<String, Object>()
                 : new HashMap<String, Object>(getParametersByName());
         params.put(parameterName, parameterValue);
-        return new _NamedQueryDefault<>(getResultType(), getName(), getRange(), params);
+        return new _NamedQueryDefault<>(getResultType(), getName(), getRange(), getOrderings(), params);
     }
 
 }
@@ -18,16 +18,46 @@
  */
 package org.apache.causeway.applib.query;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
-@RequiredArgsConstructor
 abstract class _QueryAbstract<T> implements Query<T> {
 
     private static final long serialVersionUID = 1L;
 
     @Getter(onMethod_ = {@Override}) private final Class<T> resultType;
     @Getter(onMethod_ = {@Override}) private final QueryRange range;
-    
-    
+    @Getter(onMethod_ = {@Override}) private final List<QueryOrdering> orderings;
+
+    protected _QueryAbstract(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryRange range,
+            final @Nullable List<QueryOrdering> orderings) {
+        this.resultType = resultType;
+        this.range = range;
+        this.orderings = orderings==null
+                ? List.of()
+                : List.copyOf(orderings);
+    }
+
+    protected static <E> List<E> toList(final @Nullable E[] elements) {
+        return _NullSafe.stream(elements)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    protected String orderingsDescription() {
+        return orderings.isEmpty()
+                ? ""
+                : " ordered by " + orderings;
+    }
+
 }
@@ -0,0 +1,60 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+@EqualsAndHashCode
+final class _QueryCriterionDefault implements QueryCriterion {
+
+    private static final long serialVersionUID = 1L;
+
+    @Getter(onMethod_ = {@Override}) private final String propertyName;
+    @Getter(onMethod_ = {@Override}) private final Operator operator;
+    @Getter(onMethod_ = {@Override}) private final Object value;
+
+    _QueryCriterionDefault(
+            final @NonNull String propertyName,
+            final @NonNull Operator operator,
+            final @Nullable Object value) {
+        if(propertyName.isBlank()) {
+            throw _Exceptions.illegalArgument("require propertyName to be non empty, got '%s'", propertyName);
+        }
+        this.propertyName = propertyName;
+        this.operator = operator;
+        this.value = value instanceof Collection
+                ? new ArrayList<>((Collection<?>) value) // defensive copy
+                : value;
+    }
+
+    @Override
+    public String toString() {
+        return propertyName + " " + operator + " " + value;
+    }
+
+}
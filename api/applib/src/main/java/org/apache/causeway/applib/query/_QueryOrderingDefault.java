@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+@EqualsAndHashCode
+final class _QueryOrderingDefault implements QueryOrdering {
+
+    private static final long serialVersionUID = 1L;
+
+    @Getter(onMethod_ = {@Override}) private final String propertyName;
+    @Getter(onMethod_ = {@Override}) private final boolean ascending;
+
+    _QueryOrderingDefault(
+            final @NonNull String propertyName,
+            final boolean ascending) {
+        if(propertyName.isBlank()) {
+            throw _Exceptions.illegalArgument("require propertyName to be non empty, got '%s'", propertyName);
+        }
+        this.propertyName = propertyName;
+        this.ascending = ascending;
+    }
+
+    @Override
+    public String toString() {
+        return propertyName + (ascending ? " ascending" : " descending");
+    }
+
+}
@@ -249,6 +249,12 @@ public void setThrew(final Exception threw) {
      * action invocation/property edit), though some fields ({@link Execution#getCompletedAt()},
      * {@link Execution#getReturned()}) will (obviously) still be null.
      * </p>
+     *
+     * <p>
+     * However, it is only populated if there is any
+     * {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber} enabled (to consume it),
+     * otherwise is <tt>null</tt>.
+     * </p>
      */
     @Getter
     private T dto;
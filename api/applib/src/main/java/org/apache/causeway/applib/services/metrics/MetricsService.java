@@ -54,6 +54,24 @@ public interface MetricsService {
      */
     int numberEntitiesDirtied();
 
+    /**
+     * The number of times that, so far in this transaction, the
+     * {@link org.apache.causeway.applib.services.repository.RepositoryService} has flushed pending changes,
+     * either explicitly or automatically prior to a query.
+     */
+    default int numberFlushesPerformed() {
+        return 0;
+    }
+
+    /**
+     * The number of times that, so far in this transaction, the
+     * {@link org.apache.causeway.applib.services.repository.RepositoryService} has skipped the automatic flush
+     * prior to a query, because there were no pending changes related to the query's result type.
+     */
+    default int numberFlushesSkipped() {
+        return 0;
+    }
+
 }
 
 
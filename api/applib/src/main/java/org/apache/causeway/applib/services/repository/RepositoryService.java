@@ -22,6 +22,7 @@
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -302,6 +303,29 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Lazily streams all persistence instances matching the specified {@link Query}, such that
+     * (unlike {@link #allMatches(Query)}) the matches are never held in memory all at once.
+     *
+     * <p>
+     *     Instances are fetched from a database cursor as the stream is consumed. To keep memory
+     *     flat, instances already consumed are periodically detached from the persistence context
+     *     (with any pending changes flushed beforehand). Fetch size and detach interval are configured
+     *     with <code>causeway.persistence.commons.repository-service.stream-matches.*</code>.
+     * </p>
+     *
+     * @apiNote The returned {@link Stream} must be consumed within the current transaction and
+     *          should be closed afterwards (eg. using try-with-resources), to release the cursor.
+     *          Detached instances must not be modified, unless re-attached.
+     * @implNote The default implementation is not lazy, as it delegates to {@link #allMatches(Query)};
+     *          implementations backed by a database are encouraged to stream from a cursor instead.
+     *
+     * @see #allMatches(Query)
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.applib.services.swagger;
 
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
 /**
  * Generates Swagger schema definition files to describe the public and/or
  * private RESTful APIs exposed by the RestfulObjects viewer.
@@ -44,4 +48,22 @@ String generateSwaggerSpec(
             final Visibility visibility,
             final Format format);
 
+    /**
+     * Returns an entity tag (for use as HTTP <code>ETag</code>), that identifies the Swagger spec
+     * {@link #generateSwaggerSpec(Visibility, Format)} currently returns for the specified
+     * visibility and format.
+     *
+     * @param visibility
+     * @param format
+     *
+     * @implNote the default implementation generates the spec to compute a digest of it;
+     *      implementations are encouraged to cache both instead
+     */
+    default String generateSwaggerSpecETag(
+            final Visibility visibility,
+            final Format format) {
+        return DigestUtils.md5DigestAsHex(
+                generateSwaggerSpec(visibility, format).getBytes(StandardCharsets.UTF_8));
+    }
+
 }
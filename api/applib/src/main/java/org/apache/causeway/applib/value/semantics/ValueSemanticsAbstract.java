@@ -29,7 +29,9 @@
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.FormatStyle;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -209,9 +211,16 @@ protected DecimalFormat getNumberFormat(
     protected DecimalFormat getNumberFormat(
             final @Nullable ValueSemanticsProvider.Context context,
             final @NonNull FormatUsageFor usedFor) {
-        val format = (DecimalFormat)NumberFormat.getNumberInstance(getUserLocale(context).getNumberFormatLocale());
         // prime w/ 16 (64 bit IEEE 754 double has 15 decimal digits of precision)
-        format.setMaximumFractionDigits(16);
+        val prototype = NUMBER_FORMAT_PROTOTYPES.computeIfAbsent(
+                NumberFormatKey.of(getUserLocale(context).getNumberFormatLocale(), 16),
+                key->{
+                    val format = (DecimalFormat)NumberFormat.getNumberInstance(key.getLocale());
+                    format.setMaximumFractionDigits(key.getMaximumFractionDigits());
+                    return format;
+                });
+        // DecimalFormat is mutable and not thread-safe, hence hand out a clone confined to the caller
+        val format = (DecimalFormat) prototype.clone();
         configureDecimalFormat(context, format, usedFor);
         return format;
     }
@@ -247,9 +256,9 @@ protected Optional<BigDecimal> parseDecimal(
         }
 
         if (groupingSeparatorPolicy == GroupingSeparatorPolicy.DISALLOW) {
-            val userLocale = getUserLocale(context);
-            val decimalFormatSymbols = new DecimalFormatSymbols(userLocale.getNumberFormatLocale());
-            val groupingSeparatorChar = decimalFormatSymbols.getGroupingSeparator();
+            val groupingSeparatorChar = GROUPING_SEPARATOR_BY_LOCALE.computeIfAbsent(
+                    getUserLocale(context).getNumberFormatLocale(),
+                    locale->new DecimalFormatSymbols(locale).getGroupingSeparator());
             if (input.contains(""+groupingSeparatorChar)) {
                 throw new TextEntryParseException("Invalid value '" + input + "'; do not use the '" + groupingSeparatorChar + "' grouping separator");
             }
@@ -292,6 +301,8 @@ public static enum FormatUsageFor {
 
     /**
      * Typically overridden by BigDecimalValueSemantics to set min/max fractional digits.
+     * <p>
+     * Applied to each format handed out, hence may depend on configuration that changes at runtime.
      */
     protected void configureDecimalFormat(
             final Context context, final DecimalFormat format, final FormatUsageFor usedFor) {}
@@ -305,23 +316,29 @@ protected DateTimeFormatter getTemporalNoZoneRenderingFormat(
             final @NonNull FormatStyle dateFormatStyle,
             final @NonNull FormatStyle timeFormatStyle) {
 
-        final DateTimeFormatter noZoneOutputFormat;
-
-        switch (temporalCharacteristic) {
-        case DATE_TIME:
-            noZoneOutputFormat = DateTimeFormatter.ofLocalizedDateTime(dateFormatStyle, timeFormatStyle);
-            break;
-        case DATE_ONLY:
-            noZoneOutputFormat = DateTimeFormatter.ofLocalizedDate(dateFormatStyle);
-            break;
-        case TIME_ONLY:
-            noZoneOutputFormat = DateTimeFormatter.ofLocalizedTime(timeFormatStyle);
-            break;
-        default:
-            throw _Exceptions.unmatchedCase(temporalCharacteristic);
-        }
-        return noZoneOutputFormat
-                .withLocale(getUserLocale(context).getTimeFormatLocale());
+        // DateTimeFormatter is immutable and thread-safe, hence can be shared
+        return NO_ZONE_RENDERING_FORMATS.computeIfAbsent(
+                TemporalRenderingFormatKey.of(temporalCharacteristic, dateFormatStyle, timeFormatStyle,
+                        getUserLocale(context).getTimeFormatLocale()),
+                key->{
+                    final DateTimeFormatter noZoneOutputFormat;
+
+                    switch (temporalCharacteristic) {
+                    case DATE_TIME:
+                        noZoneOutputFormat = DateTimeFormatter.ofLocalizedDateTime(dateFormatStyle, timeFormatStyle);
+                        break;
+                    case DATE_ONLY:
+                        noZoneOutputFormat = DateTimeFormatter.ofLocalizedDate(dateFormatStyle);
+                        break;
+                    case TIME_ONLY:
+                        noZoneOutputFormat = DateTimeFormatter.ofLocalizedTime(timeFormatStyle);
+                        break;
+                    default:
+                        throw _Exceptions.unmatchedCase(temporalCharacteristic);
+                    }
+                    return noZoneOutputFormat
+                            .withLocale(key.getLocale());
+                });
     }
 
     protected Optional<DateTimeFormatter> getTemporalZoneOnlyRenderingFormat(
@@ -351,11 +368,15 @@ protected DateTimeFormatter getTemporalEditingFormat(
             final @NonNull EditingFormatDirection direction,
             final @NonNull TemporalEditingPattern editingPattern) {
 
-        return new DateTimeFormatterBuilder()
-                .appendPattern(editingPattern
-                        .getEditingFormatAsPattern(
-                                temporalCharacteristic, offsetCharacteristic, timePrecision, direction))
-                .toFormatter(getUserLocale(context).getTimeFormatLocale());
+        val pattern = editingPattern
+                .getEditingFormatAsPattern(temporalCharacteristic, offsetCharacteristic, timePrecision, direction);
+
+        // DateTimeFormatter is immutable and thread-safe, hence can be shared
+        return EDITING_FORMATS.computeIfAbsent(
+                TemporalEditingFormatKey.of(pattern, getUserLocale(context).getTimeFormatLocale()),
+                key->new DateTimeFormatterBuilder()
+                        .appendPattern(key.getPattern())
+                        .toFormatter(key.getLocale()));
     }
 
     protected DateTimeFormatter getTemporalIsoFormat(
@@ -380,6 +401,36 @@ protected DateTimeFormatter getTemporalIsoFormat(
         }
     }
 
+    // -- FORMAT CACHING
+
+    /**
+     * Prototypes, not to be handed out, as {@link DecimalFormat} is mutable.
+     */
+    private static final Map<NumberFormatKey, DecimalFormat> NUMBER_FORMAT_PROTOTYPES = new ConcurrentHashMap<>();
+    private static final Map<Locale, Character> GROUPING_SEPARATOR_BY_LOCALE = new ConcurrentHashMap<>();
+    private static final Map<TemporalRenderingFormatKey, DateTimeFormatter> NO_ZONE_RENDERING_FORMATS = new ConcurrentHashMap<>();
+    private static final Map<TemporalEditingFormatKey, DateTimeFormatter> EDITING_FORMATS = new ConcurrentHashMap<>();
+
+    @lombok.Value(staticConstructor = "of")
+    private static class NumberFormatKey {
+        private final @NonNull Locale locale;
+        private final int maximumFractionDigits;
+    }
+
+    @lombok.Value(staticConstructor = "of")
+    private static class TemporalRenderingFormatKey {
+        private final @NonNull TemporalValueSemantics.TemporalCharacteristic temporalCharacteristic;
+        private final @NonNull FormatStyle dateFormatStyle;
+        private final @NonNull FormatStyle timeFormatStyle;
+        private final @NonNull Locale locale;
+    }
+
+    @lombok.Value(staticConstructor = "of")
+    private static class TemporalEditingFormatKey {
+        private final @NonNull String pattern;
+        private final @NonNull Locale locale;
+    }
+
     // -- TRANSLATION SUPPORT
 
     @Autowired(required = false) // nullable (JUnit support)
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.val;
+
+class CriteriaQueryTest {
+
+    static class Customer {}
+
+    @Test
+    public void typicalHappyCase() throws Exception {
+
+        val query = Query.where(Customer.class,
+                    QueryCriterion.equal("lastName", "Smith"),
+                    QueryCriterion.greaterThan("age", 18))
+                .and(QueryCriterion.like("firstName", "Fr%"))
+                .withOrdering(QueryOrdering.ascending("firstName"))
+                .withRange(QueryRange.limit(5L));
+
+        val criteria = query.getCriteria();
+        assertThat(criteria.size(), is(3));
+        assertThat(criteria.get(0), is(QueryCriterion.equal("lastName", "Smith")));
+        assertThat(criteria.get(1).getOperator(), is(QueryCriterion.Operator.GREATER_THAN));
+        assertThat(criteria.get(1).getValue(), is(18));
+        assertThat(criteria.get(2).getOperator(), is(QueryCriterion.Operator.LIKE));
+
+        // other withers retain the criteria
+        assertThat(query.getOrderings().size(), is(1));
+        assertThat(query.getRange().getLimit(), is(5L));
+        assertThat(query.getResultType(), is(Customer.class));
+    }
+
+    @Test
+    public void inCopiesValues() throws Exception {
+
+        val values = new ArrayList<String>(List.of("Smith", "Jones"));
+        val criterion = QueryCriterion.in("lastName", values);
+        values.clear();
+
+        assertThat(criterion.getValue(), is(List.of("Smith", "Jones")));
+    }
+
+    @Test
+    public void propertyNameEmpty() throws Exception {
+        assertThrows(IllegalArgumentException.class, ()->{
+            QueryCriterion.equal("", "Smith");
+        });
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class NamedQueryTest_withOrdering {
+
+    private NamedQuery<Customer> namedQuery;
+
+    static class Customer {}
+
+    @BeforeEach
+    void setUp() throws Exception {
+        namedQuery = Query.named(Customer.class, "findByLastName")
+                .withParameter("lastName", "Smith");
+    }
+
+    @Test
+    public void defaults() throws Exception {
+        assertTrue(namedQuery.getOrderings().isEmpty());
+    }
+
+    @Test
+    public void typicalHappyCase() throws Exception {
+
+        val query = namedQuery
+                .withOrdering(
+                        QueryOrdering.ascending("lastName"),
+                        QueryOrdering.descending("dateOfBirth"))
+                .withRange(QueryRange.start(10L).withLimit(5L))
+                .withParameter("firstName", "Fred");
+
+        val orderings = query.getOrderings();
+        assertThat(orderings.size(), is(2));
+        assertThat(orderings.get(0).getPropertyName(), is("lastName"));
+        assertThat(orderings.get(0).isAscending(), is(true));
+        assertThat(orderings.get(1).getPropertyName(), is("dateOfBirth"));
+        assertThat(orderings.get(1).isAscending(), is(false));
+
+        // other withers retain the orderings
+        assertThat(query.getRange().getStart(), is(10L));
+        assertThat(query.getParametersByName().size(), is(2));
+    }
+
+    @Test
+    public void replacesPreviousOrderings() throws Exception {
+
+        val orderings = namedQuery
+                .withOrdering(QueryOrdering.ascending("lastName"))
+                .withOrdering(QueryOrdering.descending("firstName"))
+                .getOrderings();
+
+        assertThat(orderings.size(), is(1));
+        assertThat(orderings.get(0), is(QueryOrdering.descending("firstName")));
+    }
+
+    @Test
+    public void allInstances() throws Exception {
+
+        val orderings = Query.allInstances(Customer.class)
+                .withOrdering(QueryOrdering.descending("lastName"))
+                .withLimit(5L)
+                .getOrderings();
+
+        assertThat(orderings.size(), is(1));
+        assertThat(orderings.get(0), is(QueryOrdering.descending("lastName")));
+    }
+
+    @Test
+    public void propertyNameEmpty() throws Exception {
+        assertThrows(IllegalArgumentException.class, ()->{
+            QueryOrdering.ascending("");
+        });
+    }
+
+}
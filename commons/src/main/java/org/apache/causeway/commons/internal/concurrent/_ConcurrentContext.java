@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.commons.internal.concurrent;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
@@ -54,6 +55,21 @@ public static _ConcurrentContextBuilder sequential() {
         return _ConcurrentContext.builder();
     }
 
+    /**
+     * Optionally returns a new {@link ExecutorService} that starts a new virtual thread for each task,
+     * based on whether the Java runtime supports virtual threads (Java 21+).
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            // not referenced directly, as we still need to compile and run with Java 11
+            return Optional.of((ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
     public boolean shouldRunSequential() {
         return executorService == null;
     }
@@ -0,0 +1,210 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * A bounded queue, drained by a dedicated (daemon) writer thread, that hands the queued elements
+ * over to a batch writer, in batches of up to {@code batchSize} elements, or whatever was queued
+ * within the {@code flushInterval}, whichever comes first.
+ * <p>
+ * Once {@link #shutdown(Duration) shut down}, no further elements are accepted, while all elements
+ * queued so far are still written. Offering and shutting down are mutually exclusive, such that
+ * no element can slip into the queue after the writer has drained it.
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ *
+ * @since 2.0
+ */
+@Log4j2
+public final class _WriteBehindQueue<T> {
+
+    /**
+     * Returns a new {@link _WriteBehindQueue}, with its writer thread already started.
+     *
+     * @param name - used to name the writer thread and for logging
+     * @param batchWriter - writes a batch, is expected to handle any failures itself
+     */
+    public static <T> _WriteBehindQueue<T> start(
+            final @NonNull String name,
+            final int capacity,
+            final int batchSize,
+            final @NonNull Duration flushInterval,
+            final @NonNull Consumer<List<T>> batchWriter) {
+        val writeBehindQueue = new _WriteBehindQueue<T>(
+                name, capacity, batchSize, flushInterval, batchWriter);
+        writeBehindQueue.writerThread.start();
+        return writeBehindQueue;
+    }
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Consumer<List<T>> batchWriter;
+    private final Thread writerThread;
+
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private volatile boolean shuttingDown;
+
+    private _WriteBehindQueue(
+            final String name,
+            final int capacity,
+            final int batchSize,
+            final Duration flushInterval,
+            final Consumer<List<T>> batchWriter) {
+        this.name = name;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.batchWriter = batchWriter;
+        this.writerThread = new Thread(this::writeLoop, name);
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * Queues given {@code element}, blocking for up to given {@code timeout} if the queue is full.
+     *
+     * @return whether queued; if not (queue full or shut down), the caller is expected to write it otherwise
+     */
+    public boolean offer(final @NonNull T element, final @NonNull Duration timeout) {
+        return offer(Collections.singletonList(element), timeout).isEmpty();
+    }
+
+    /**
+     * Queues given {@code elements}, blocking for up to given {@code timeout} (overall) if the queue is full.
+     *
+     * @return those elements not queued (queue full or shut down),
+     *      that the caller is expected to write otherwise
+     */
+    public List<T> offer(final @NonNull List<T> elements, final @NonNull Duration timeout) {
+        int queued = 0;
+        val lock = shutdownLock.readLock();
+        lock.lock();
+        try {
+            if(shuttingDown) {
+                return elements;
+            }
+            val deadline = System.nanoTime() + timeout.toNanos();
+            while(queued < elements.size()
+                    && queue.offer(elements.get(queued), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                ++queued;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        if(queued == elements.size()) {
+            return Collections.emptyList();
+        }
+        log.warn("{}: queue full, {} elements not queued", name, elements.size() - queued);
+        return new ArrayList<>(elements.subList(queued, elements.size()));
+    }
+
+    public boolean isShuttingDown() {
+        return shuttingDown;
+    }
+
+    /**
+     * Stops accepting elements and waits for up to given {@code timeout} for all elements
+     * queued so far to be written.
+     *
+     * @return elements still queued, if the timeout was exceeded (in which case the writer is interrupted)
+     */
+    public List<T> shutdown(final @NonNull Duration timeout) {
+        val lock = shutdownLock.writeLock();
+        lock.lock(); // waits for any offer in progress
+        try {
+            shuttingDown = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writerThread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if(!writerThread.isAlive()) {
+            return Collections.emptyList();
+        }
+        writerThread.interrupt();
+        val notWritten = new ArrayList<T>(queue.size());
+        queue.drainTo(notWritten);
+        return notWritten;
+    }
+
+    // -- HELPER
+
+    private void writeLoop() {
+        val batch = new ArrayList<T>(batchSize);
+
+        while(!shuttingDown
+                || !queue.isEmpty()) {
+            try {
+                val first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if(first==null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // size or time trigger, whichever comes first
+                val deadline = System.nanoTime() + flushIntervalNanos;
+                while(batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if(batch.size() >= batchSize) {
+                        break;
+                    }
+                    val next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if(next==null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // shutdown timeout exceeded
+                log.warn("{}: writer interrupted, {} elements not written", name, batch.size());
+                return;
+            }
+
+            batchWriter.accept(batch);
+            batch.clear();
+        }
+    }
+
+}
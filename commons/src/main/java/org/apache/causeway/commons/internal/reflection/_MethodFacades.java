@@ -19,14 +19,21 @@
 package org.apache.causeway.commons.internal.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -34,6 +41,9 @@
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedType;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -94,9 +104,43 @@ public interface ParameterConverter {
          * Replaces {@code parameterValue} (if required) to be conform with the {@code parameterType}.
          */
         <T> T convert(final Class<T> parameterType, Object parameterValue);
-        
+
+        /**
+         * Whether values of given {@code parameterType} may need to be converted at all.
+         * Allows the decision to be made once per method parameter, rather than per invocation.
+         */
+        default boolean isConversionRequired(final Class<?> parameterType) {
+            return true;
+        }
+
         // -- UTILITY
 
+        /**
+         * Returns a function equivalent to {@link #convertAll(Executable, Object[])} for given {@code executable},
+         * with the decision which parameters need conversion already made.
+         */
+        default UnaryOperator<Object[]> bind(final @NonNull Executable executable) {
+            final int paramCount = executable.getParameterCount();
+            if(paramCount==0) {
+                return executionParameters->_Constants.emptyObjects;
+            }
+            val parameterTypes = executable.getParameterTypes();
+            val convertibleParamIndexes = IntStream.range(0, paramCount)
+                    .filter(i->isConversionRequired(parameterTypes[i]))
+                    .toArray();
+            return executionParameters->{
+                val adaptedExecutionParameters = new Object[paramCount];
+                if(executionParameters!=null) {
+                    System.arraycopy(executionParameters, 0, adaptedExecutionParameters, 0,
+                            Math.min(paramCount, executionParameters.length));
+                }
+                for(int i : convertibleParamIndexes) {
+                    adaptedExecutionParameters[i] = convert(parameterTypes[i], adaptedExecutionParameters[i]);
+                }
+                return adaptedExecutionParameters;
+            };
+        }
+
         default Object[] convertAll(
                 final @NonNull Executable executable,
                 final @Nullable Object[] executionParameters) {
@@ -145,6 +189,15 @@ public static interface MethodFacade {
 
         Object[] getArguments(Object[] executionParameters, ParameterConverter converter);
 
+        /**
+         * Optionally returns a {@link MethodHandle} for the underlying method, of type {@code (Object, Object[])Object},
+         * taking the target followed by the arguments as returned by {@link #getArguments(Object[], ParameterConverter)}.
+         * <p>
+         * Created lazily, once per method. Is empty, if the method is not accessible via method handles,
+         * in which case callers should fall back to reflective invocation.
+         */
+        Optional<MethodHandle> asMethodHandle();
+
         <A extends Annotation> Optional<A> synthesize(final Class<A> annotationType);
         <A extends Annotation> Optional<A> synthesizeOnParameter(final Class<A> annotationType, int paramNum);
 
@@ -184,6 +237,14 @@ private final static class RegularMethod implements MethodFacade {
 
         private final ResolvedMethod method;
 
+        @EqualsAndHashCode.Exclude @Getter(AccessLevel.NONE)
+        private final InvocationSupport invocationSupport;
+
+        RegularMethod(final ResolvedMethod method) {
+            this.method = method;
+            this.invocationSupport = new InvocationSupport(method.method(), method.method());
+        }
+
         @Override public Class<?> getDeclaringClass() {
             return method.method().getDeclaringClass();
         }
@@ -225,8 +286,11 @@ private final static class RegularMethod implements MethodFacade {
                 final Class<A> annotationType, final int paramNum) {
             return _Annotations.synthesize(method.method().getParameters()[paramNum], annotationType);
         }
-        @Override public Object[] getArguments(final Object[] executionParameters, ParameterConverter converter) {
-            return converter.convertAll(method.method(), executionParameters);
+        @Override public Object[] getArguments(final Object[] executionParameters, final ParameterConverter converter) {
+            return invocationSupport.convertAll(executionParameters, converter);
+        }
+        @Override public Optional<MethodHandle> asMethodHandle() {
+            return invocationSupport.getMethodHandle();
         }
         @Override public boolean isAnnotatedAsNullable() {
             return _NullSafe.stream(method.method().getAnnotations())
@@ -245,6 +309,15 @@ private final static class ParamsAsTupleMethod implements MethodFacade {
         private final ResolvedConstructor patConstructor;
         private final ResolvedMethod method;
 
+        @EqualsAndHashCode.Exclude @Getter(AccessLevel.NONE)
+        private final InvocationSupport invocationSupport;
+
+        ParamsAsTupleMethod(final ResolvedConstructor patConstructor, final ResolvedMethod method) {
+            this.patConstructor = patConstructor;
+            this.method = method;
+            this.invocationSupport = new InvocationSupport(patConstructor.constructor(), method.method());
+        }
+
         @Override public Class<?>[] getParameterTypes() {
             return patConstructor.paramTypes();
         }
@@ -281,11 +354,14 @@ private final static class ParamsAsTupleMethod implements MethodFacade {
             return patConstructor.constructor();
         }
         @Override @SneakyThrows
-        public Object[] getArguments(final Object[] executionParameters, ParameterConverter converter) {
-            var convertedArgs = converter.convertAll(patConstructor.constructor(), executionParameters);
+        public Object[] getArguments(final Object[] executionParameters, final ParameterConverter converter) {
+            var convertedArgs = invocationSupport.convertAll(executionParameters, converter);
             // converts input args into a single arg tuple type (PAT semantics)
             return new Object[] {patConstructor.constructor().newInstance(convertedArgs)};
         }
+        @Override public Optional<MethodHandle> asMethodHandle() {
+            return invocationSupport.getMethodHandle();
+        }
         @Override public <A extends Annotation> Optional<A> synthesize(final Class<A> annotationType) {
             return _Annotations.synthesize(method.method(), annotationType);
         }
@@ -302,4 +378,74 @@ public Object[] getArguments(final Object[] executionParameters, ParameterConver
         }
     }
 
+    // -- INVOCATION SUPPORT
+
+    /**
+     * Holds what is required to invoke a method (facade), decided once per method rather than per invocation.
+     */
+    private final static class InvocationSupport {
+
+        private final Executable argumentsExecutable;
+        private final _Lazy<Optional<MethodHandle>> methodHandle;
+        private volatile BoundConverter boundConverter;
+
+        InvocationSupport(final Executable argumentsExecutable, final Method method) {
+            this.argumentsExecutable = argumentsExecutable;
+            this.methodHandle = _Lazy.threadSafe(()->spreadMethodHandle(method));
+        }
+
+        Optional<MethodHandle> getMethodHandle() {
+            return methodHandle.get();
+        }
+
+        Object[] convertAll(final Object[] executionParameters, final ParameterConverter converter) {
+            var bound = boundConverter;
+            if(bound==null
+                    || bound.getConverter()!=converter) {
+                // in practice there is only ever one converter per method, so a single slot suffices
+                bound = new BoundConverter(converter, converter.bind(argumentsExecutable));
+                boundConverter = bound;
+            }
+            return bound.getFunction().apply(executionParameters);
+        }
+
+        @lombok.Value
+        private static class BoundConverter {
+            private final ParameterConverter converter;
+            private final UnaryOperator<Object[]> function;
+        }
+
+        private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+        /**
+         * Returns the method handle adapted to {@link #SPREAD_TYPE},
+         * or empty if the method cannot be accessed via method handles.
+         */
+        private static Optional<MethodHandle> spreadMethodHandle(final Method method) {
+            return unreflect(method)
+                    .map(methodHandle->Modifier.isStatic(method.getModifiers())
+                            ? MethodHandles.dropArguments(methodHandle, 0, Object.class)
+                            : methodHandle)
+                    .map(methodHandle->methodHandle
+                            .asFixedArity()
+                            .asSpreader(Object[].class, method.getParameterCount())
+                            .asType(SPREAD_TYPE));
+        }
+
+        private static Optional<MethodHandle> unreflect(final Method method) {
+            try {
+                return Optional.of(MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflect(method));
+            } catch (IllegalAccessException | SecurityException e) {
+                // eg. package not opened to us, try public access instead
+            }
+            try {
+                return Optional.of(MethodHandles.publicLookup().unreflect(method));
+            } catch (IllegalAccessException | SecurityException e) {
+                return Optional.empty();
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ConcurrentContextTest {
+
+    @Test
+    void virtualThreadExecutor_shouldBeAvailableWithJava21OrLater() {
+        val virtualThreadExecutor = _ConcurrentContext.newVirtualThreadPerTaskExecutor();
+        assertEquals(Runtime.version().feature() >= 21, virtualThreadExecutor.isPresent());
+        virtualThreadExecutor.ifPresent(executor->executor.shutdown());
+    }
+
+    @Test
+    void virtualThreadExecutor_shouldRunManyBlockingTasksConcurrently() throws InterruptedException {
+        val virtualThreadExecutor = _ConcurrentContext.newVirtualThreadPerTaskExecutor().orElse(null);
+        if(virtualThreadExecutor==null) {
+            return; // not supported by this Java runtime
+        }
+        final int taskCount = 2_000;
+        val allStarted = new CountDownLatch(taskCount);
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                virtualThreadExecutor.submit(()->{
+                    allStarted.countDown();
+                    allStarted.await(); // blocks until all tasks are running at the same time
+                    return null;
+                });
+            }
+            assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+        } finally {
+            virtualThreadExecutor.shutdownNow();
+        }
+    }
+
+}
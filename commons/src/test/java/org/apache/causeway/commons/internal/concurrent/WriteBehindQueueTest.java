@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class WriteBehindQueueTest {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void shouldWriteInBatchesOfUpToBatchSize() {
+        val queue = _WriteBehindQueue.<Integer>start("test", 100, 3, Duration.ofMillis(50),
+                batch->batches.add(new ArrayList<>(batch)));
+
+        val notQueued = queue.offer(range(0, 7), Duration.ofSeconds(1));
+        assertTrue(notQueued.isEmpty());
+
+        assertTrue(queue.shutdown(Duration.ofSeconds(5)).isEmpty());
+
+        assertEquals(range(0, 7), written());
+        assertTrue(batches.stream().allMatch(batch->batch.size() <= 3));
+    }
+
+    @Test
+    void whenFull_shouldReturnThoseNotQueued() throws InterruptedException {
+        val writing = new CountDownLatch(1);
+        val resume = new CountDownLatch(1);
+        val queue = _WriteBehindQueue.<Integer>start("test", 2, 1, Duration.ofMillis(50),
+                batch->{
+                    batches.add(new ArrayList<>(batch));
+                    writing.countDown();
+                    await(resume);
+                });
+
+        // taken by the writer, that then blocks
+        assertTrue(queue.offer(0, Duration.ofSeconds(1)));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // fill up the queue (capacity 2), then overflow
+        val notQueued = queue.offer(range(1, 5), Duration.ofMillis(10));
+        assertEquals(List.of(3, 4), notQueued);
+        assertFalse(queue.offer(5, Duration.ofMillis(10)));
+
+        resume.countDown();
+        assertTrue(queue.shutdown(Duration.ofSeconds(5)).isEmpty());
+
+        assertEquals(range(0, 3), written());
+    }
+
+    @Test
+    void whenShutDown_shouldDrainQueuedButNotAcceptAnyMore() {
+        val queue = _WriteBehindQueue.<Integer>start("test", 100, 10, Duration.ofSeconds(1),
+                batch->batches.add(new ArrayList<>(batch)));
+
+        assertTrue(queue.offer(range(0, 5), Duration.ofSeconds(1)).isEmpty());
+        assertTrue(queue.shutdown(Duration.ofSeconds(5)).isEmpty());
+
+        assertTrue(queue.isShuttingDown());
+        assertFalse(queue.offer(5, Duration.ofSeconds(1)));
+        assertEquals(range(5, 8), queue.offer(range(5, 8), Duration.ofSeconds(1)));
+
+        assertEquals(range(0, 5), written());
+    }
+
+    @Test
+    void whenShutdownTimeoutExceeded_shouldReturnThoseNotWritten() throws InterruptedException {
+        val writing = new CountDownLatch(1);
+        val queue = _WriteBehindQueue.<Integer>start("test", 100, 1, Duration.ofMillis(50),
+                batch->{
+                    batches.add(new ArrayList<>(batch));
+                    writing.countDown();
+                    await(new CountDownLatch(1)); // blocks until interrupted
+                });
+
+        assertTrue(queue.offer(range(0, 3), Duration.ofSeconds(1)).isEmpty());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        val notWritten = queue.shutdown(Duration.ofMillis(50));
+
+        assertEquals(range(1, 3), notWritten);
+        assertEquals(range(0, 1), written());
+    }
+
+    // -- HELPER
+
+    private List<Integer> written() {
+        synchronized(batches) {
+            return batches.stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<Integer> range(final int from, final int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
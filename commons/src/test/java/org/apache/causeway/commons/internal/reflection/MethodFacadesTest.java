@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.commons.internal.reflection._MethodFacades.ParameterConverter;
+
+import lombok.val;
+
+class MethodFacadesTest {
+
+    static class Customer {
+        private String name = "Joe";
+        public String getName() {
+            return name;
+        }
+        String greet(final String greeting, final int times) {
+            return (greeting + " " + name + " ").repeat(times).trim();
+        }
+        private void rename(final String name) {
+            this.name = name;
+        }
+        static int twice(final int x) {
+            return 2 * x;
+        }
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    /**
+     * Replaces missing {@code int} arguments with {@code 1}, leaves all others as they are.
+     */
+    static final ParameterConverter INT_DEFAULTING_CONVERTER = new ParameterConverter() {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T convert(final Class<T> parameterType, final Object parameterValue) {
+            return parameterValue==null
+                    ? (T) Integer.valueOf(1)
+                    : (T) parameterValue;
+        }
+        @Override
+        public boolean isConversionRequired(final Class<?> parameterType) {
+            return parameterType.isPrimitive();
+        }
+    };
+
+    @Test
+    void methodHandle_shouldInvokeGetter() throws Throwable {
+        val facade = facadeFor("getName");
+        assertEquals("Joe", invoke(facade, new Customer()));
+    }
+
+    @Test
+    void methodHandle_shouldInvokeNonPublicMethods() throws Throwable {
+        val customer = new Customer();
+        invoke(facadeFor("rename", String.class), customer, "Sue");
+        assertEquals("Sue", customer.getName());
+        assertEquals("Hi Sue Hi Sue", invoke(facadeFor("greet", String.class, int.class), customer, "Hi", 2));
+    }
+
+    @Test
+    void methodHandle_shouldInvokeStaticMethods() throws Throwable {
+        assertEquals(6, invoke(facadeFor("twice", int.class), null, 3));
+    }
+
+    @Test
+    void methodHandle_shouldPropagateExceptionsUnwrapped() {
+        val facade = facadeFor("fail");
+        assertThrows(IllegalStateException.class, ()->invoke(facade, new Customer()));
+    }
+
+    @Test
+    void methodHandle_shouldBeCreatedOnce() {
+        val facade = facadeFor("getName");
+        assertTrue(facade.asMethodHandle().isPresent());
+        assertTrue(facade.asMethodHandle().get() == facade.asMethodHandle().get());
+    }
+
+    @Test
+    void arguments_shouldBeConvertedAndPadded() {
+        val facade = facadeFor("greet", String.class, int.class);
+        assertArrayEquals(new Object[] {"Hi", 1}, facade.getArguments(new Object[] {"Hi"}, INT_DEFAULTING_CONVERTER));
+        assertArrayEquals(new Object[] {null, 3}, facade.getArguments(new Object[] {null, 3}, INT_DEFAULTING_CONVERTER));
+        assertArrayEquals(new Object[] {null, 1}, facade.getArguments(null, INT_DEFAULTING_CONVERTER));
+    }
+
+    @Test
+    void equality_shouldNotDependOnInvocationState() {
+        val facade = facadeFor("getName");
+        val other = facadeFor("getName");
+        facade.asMethodHandle();
+        assertEquals(other, facade);
+        assertEquals(other.hashCode(), facade.hashCode());
+    }
+
+    // -- HELPER
+
+    private static MethodFacade facadeFor(final String methodName, final Class<?>... paramTypes) {
+        return _MethodFacades.testing.regular(ReflectionUtils.findMethod(Customer.class, methodName, paramTypes));
+    }
+
+    private static Object invoke(final MethodFacade facade, final Object target, final Object... args) throws Throwable {
+        return facade.asMethodHandle().orElseThrow()
+                .invokeExact(target, facade.getArguments(args, INT_DEFAULTING_CONVERTER));
+    }
+
+}
@@ -18,9 +18,9 @@
  */
 package org.apache.causeway.core.codegen.bytebuddy.services;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
@@ -30,6 +30,7 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactory;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryServiceAbstract;
 
@@ -37,7 +38,9 @@
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 
@@ -46,6 +49,14 @@ public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
 
+    /**
+     * Generated proxy classes, one per (base, interfaces) pair. Entries are softly referenced,
+     * hence reclaimed by the GC under memory pressure (and expunged inline on subsequent lookups),
+     * in which case the proxy class is simply generated again on next demand.
+     */
+    private final TypeCache<TypeCache.SimpleKey> proxyClassCache =
+            new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
+
     @Override
     public <T> _ProxyFactory<T> factory(
             final Class<T> base,
@@ -53,14 +64,7 @@ public <T> _ProxyFactory<T> factory(
             final Class<?>[] constructorArgTypes) {
 
         val objenesis = new ObjenesisStd();
-
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(),
-                strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
+        val proxyClass = proxyClass(base, interfaces);
 
         return new _ProxyFactory<T>() {
 
@@ -100,8 +104,8 @@ public T createInstance(final InvocationHandler handler, final Object[] construc
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(final InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
                 final Object object = objenesis.newInstance(proxyClass);
+                installInvocationHandler(object, invocationHandler);
                 return object;
             }
 
@@ -109,28 +113,128 @@ private Object createNotUsingConstructor(final InvocationHandler invocationHandl
 
             private Object createUsingConstructor(final InvocationHandler invocationHandler, @Nullable final Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
-                        .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
-                        .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                val constructor = proxyClass
+                        .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes);
+                // methods called from within the constructor are routed to the handler under construction;
+                // constructors may themselves create proxies, hence restore any outer handler when done
+                val outerHandler = handlerUnderConstruction.get();
+                handlerUnderConstruction.set(invocationHandler);
+                try {
+                    final Object object = constructor
+                            .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                    installInvocationHandler(object, invocationHandler);
+                    return object;
+                } finally {
+                    if(outerHandler!=null) {
+                        handlerUnderConstruction.set(outerHandler);
+                    } else {
+                        handlerUnderConstruction.remove();
+                    }
+                }
             }
 
         };
 
     }
 
-    // -- HELPER
+    // -- PROXY CLASS GENERATION
+
+    /**
+     * Implemented by all generated proxy classes, such that the {@link InvocationHandler}
+     * can be supplied per instance, while the proxy class itself is shared.
+     * <p>
+     * Must be public, as generated proxy classes are defined within the base type's package.
+     * There is deliberately no setter: the handler is installed exactly once,
+     * right after instantiation (see {@link #installInvocationHandler(Object, InvocationHandler)}).
+     */
+    public static interface InvocationHandlerHolder {
+        InvocationHandler getInvocationHandler$$();
+    }
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
+    private static final String INVOCATION_HANDLER_FIELD_NAME = "invocationHandler$$";
+
+    private static final ClassValue<Field> invocationHandlerFieldByProxyClass = new ClassValue<Field>() {
+        @Override
+        protected Field computeValue(final Class<?> proxyClass) {
+            try {
+                val field = proxyClass.getDeclaredField(INVOCATION_HANDLER_FIELD_NAME);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException | SecurityException e) {
+                throw _Exceptions.unrecoverable(e, "proxy class %s has no invocation handler field", proxyClass);
+            }
+        }
+    };
+
+    /**
+     * Installs the {@link InvocationHandler} with given (newly created) proxy instance;
+     * set-once, such that the handler of a live proxy cannot be swapped.
+     */
+    private static void installInvocationHandler(final Object proxy, final InvocationHandler invocationHandler) {
+        val field = invocationHandlerFieldByProxyClass.get(proxy.getClass());
+        try {
+            if(field.get(proxy)!=null) {
+                throw _Exceptions.illegalState("invocation handler already installed with proxy of type %s",
+                        proxy.getClass().getName());
+            }
+            field.set(proxy, invocationHandler);
+        } catch (IllegalAccessException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+    }
+
+    private static final ThreadLocal<InvocationHandler> handlerUnderConstruction = new ThreadLocal<>();
+
+    /**
+     * Shared by all generated proxy classes, delegates to the per instance {@link InvocationHandler}.
+     */
+    private static final InvocationHandler DISPATCHER = (proxy, method, args) -> {
+        InvocationHandler handler = ((InvocationHandlerHolder) proxy).getInvocationHandler$$();
+        if(handler == null) {
+            // not yet installed, while the constructor is still running
+            handler = handlerUnderConstruction.get();
+        }
+        return handler.invoke(proxy, method, args);
+    };
+
+    private <T> Class<? extends T> proxyClass(
+            final Class<T> base,
+            final Class<?>[] interfaces) {
+        val nonNullInterfaces = interfaces==null ? _Constants.emptyClasses : interfaces;
+        // keyed by the same class loader the proxy class gets loaded into
+        return _Casts.uncheckedCast(
+                proxyClassCache.findOrInsert(
+                        proxyClassLoader(),
+                        new TypeCache.SimpleKey(base, nonNullInterfaces),
+                        ()->makeProxyClass(base, nonNullInterfaces),
+                        proxyClassCache));
+    }
+
+    private <T> Class<? extends T> makeProxyClass(
             final Class<T> base,
             final Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
                 .implement(interfaces)
-                .method(ElementMatchers.any());
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.of(DISPATCHER))
+                .defineField(INVOCATION_HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                // registered last, hence takes precedence over the any() matcher above
+                .implement(InvocationHandlerHolder.class)
+                .intercept(FieldAccessor.ofField(INVOCATION_HANDLER_FIELD_NAME))
+                .make()
+                .load(proxyClassLoader(),
+                        strategyAdvisor.getSuitableStrategy(base))
+                .getLoaded();
+    }
+
+    private static ClassLoader proxyClassLoader() {
+        return _Context.getDefaultClassLoader();
     }
 
+    // -- HELPER
+
     private static void ensureSameSize(final Class<?>[] a, final Object[] b) {
         if(_NullSafe.size(a) != _NullSafe.size(b)) {
             throw new IllegalArgumentException(String.format("Constructor arg count expected %d, got %d.",
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.codegen.bytebuddy.services;
+
+import java.lang.reflect.InvocationHandler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ProxyFactoryServiceByteBuddyTest {
+
+    public static class Greeter {
+        public String greet() {
+            return "hello";
+        }
+    }
+
+    public static class Outer {
+        public final String greetingDuringConstruction;
+        public Outer() {
+            // creates another proxy, while this one is still under construction
+            proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(replying("inner"), true)
+                .greet();
+            this.greetingDuringConstruction = greet();
+        }
+        public String greet() {
+            return "outer-unproxied";
+        }
+    }
+
+    private static final ProxyFactoryServiceByteBuddy proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+
+    @Test
+    void proxyClass_isGeneratedOnce_perBaseAndInterfaces() {
+        val first = proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(replying("a"), false);
+        val second = proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(replying("b"), true);
+        val withInterface = proxyFactoryService.factory(Greeter.class, new Class<?>[] {Runnable.class}, null)
+                .createInstance(replying("c"), false);
+
+        assertSame(first.getClass(), second.getClass());
+        assertTrue(first.getClass() != withInterface.getClass());
+        assertTrue(withInterface instanceof Runnable);
+    }
+
+    @Test
+    void invocationHandler_isInstalledPerInstance() {
+        val factory = proxyFactoryService.factory(Greeter.class, null, null);
+        val a = factory.createInstance(replying("a"), false);
+        val b = factory.createInstance(replying("b"), true);
+
+        assertEquals("a", a.greet());
+        assertEquals("b", b.greet());
+    }
+
+    @Test
+    void nestedConstruction_doesNotClobberOuterHandler() {
+        val outer = proxyFactoryService.factory(Outer.class, null, null)
+                .createInstance(replying("outer"), true);
+
+        assertEquals("outer", outer.greetingDuringConstruction);
+        assertEquals("outer", outer.greet());
+    }
+
+    @Test
+    void invocationHandler_cannotBeSwapped() {
+        for(val method : ProxyFactoryServiceByteBuddy.InvocationHandlerHolder.class.getMethods()) {
+            assertEquals(0, method.getParameterCount(), ()->"unexpected setter " + method);
+        }
+    }
+
+    // -- HELPER
+
+    private static InvocationHandler replying(final String greeting) {
+        return (proxy, method, args) -> method.getName().equals("greet")
+                ? greeting
+                : null;
+    }
+
+}
@@ -1628,11 +1628,12 @@ public IntrospectionPolicy getPolicy() {
                  * Whether to perform metamodel introspection in parallel, intended to speed up bootstrapping.
                  *
                  * <p>
-                 *     For now this is <i>experimental</i>.
-                 *     We recommend this is left as disabled (the default).
+                 *     Specifications are created at most once, and a thread requiring a specification that is
+                 *     still being introspected by another thread waits for it to complete, so the resulting
+                 *     metamodel is the same as when introspecting sequentially.
                  * </p>
                  */
-                private boolean parallelize = false; //TODO[CAUSEWAY-2382] concurrent spec-loading is experimental
+                private boolean parallelize = false;
 
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
@@ -1803,6 +1804,19 @@ public static class Runtime {
              */
             private String timezone;
 
+            /**
+             * Whether to run asynchronous work on virtual threads, that is, actions and properties invoked using
+             * {@link org.apache.causeway.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.causeway.applib.services.wrapper.control.AsyncControl)}
+             * (unless an {@link java.util.concurrent.ExecutorService} is specified explicitly) and server-sent events.
+             *
+             * <p>
+             *     This allows for thousands of concurrent asynchronous tasks, without exhausting a pool of platform
+             *     threads. Requires Java 21 or later; if not supported by the Java runtime, then platform threads
+             *     are used as before (and a warning is logged).
+             * </p>
+             */
+            private boolean virtualThreads = false;
+
         }
 
         private final RuntimeServices runtimeServices = new RuntimeServices();
@@ -2084,6 +2098,13 @@ public static class Po {
                      * </p>
                      */
                     Mode mode = Mode.WRITE;
+
+                    /**
+                     * The locales (as language tags, eg. <code>en-GB</code>, <code>de</code>) whose translations
+                     * are read (in parallel) on start-up, when in {@link Mode#READ read} mode; translations of any
+                     * other locale are read on first use.
+                     */
+                    private List<String> preloadLocales = new ArrayList<>();
                 }
             }
 
@@ -2105,6 +2126,17 @@ public static class Bulk {
                      * </p>
                      */
                     int threshold = 1;
+
+                    /**
+                     * The maximum number of entity property changes passed to a subscriber with a single (bulk) call;
+                     * any more are streamed to the subscriber in chunks of this size, rather than being collected
+                     * all at once.
+                     *
+                     * <p>
+                     *     A non-positive value passes all entity property changes of a transaction with a single call.
+                     * </p>
+                     */
+                    int chunkSize = 0;
                 }
             }
         }
@@ -2135,6 +2167,71 @@ public static class RepositoryService {
                  * </p>
                  */
                 private boolean disableAutoFlush = false;
+
+                /**
+                 * Whether the auto-flush preceding a query is skipped, if none of the entities enlisted as changed
+                 * so far within the current transaction relate to the query's result type; that is, are neither of
+                 * the same type hierarchy nor associated with it (in either direction), directly or transitively via
+                 * any other entity types, as a query might navigate multiple associations.  Types not introspected
+                 * as entities are considered related to any type.
+                 *
+                 * <p>
+                 *     Relies on the object store reporting changes as they are made, which JDO/DataNucleus does
+                 *     (using <code>preDirty</code>), while JPA/EclipseLink only reports updates on flush; for the
+                 *     latter, queries are instead covered by EclipseLink's own auto-flush. Changes made by-passing
+                 *     the framework (eg. native queries) are not seen.
+                 * </p>
+                 *
+                 * <p>
+                 *     Only associations are considered: a JPQL or JDOQL (sub)query that refers to some other entity
+                 *     type in its filter, which is not related to the query's result type, might see stale data.
+                 * </p>
+                 *
+                 * <p>
+                 *     The number of flushes performed and skipped is available from
+                 *     {@link org.apache.causeway.applib.services.metrics.MetricsService}.
+                 * </p>
+                 */
+                private boolean skipAutoFlushForUnrelatedTypes = false;
+
+                /**
+                 * The {@link org.apache.causeway.applib.services.repository.RepositoryService} methods taking a
+                 * {@link java.util.function.Predicate} fetch all instances and filter in memory. If the number of
+                 * instances so scanned exceeds this threshold, a warning is logged suggesting to use a
+                 * {@link org.apache.causeway.applib.query.CriteriaQuery} (evaluated by the datastore) instead.
+                 *
+                 * <p>
+                 *     A non-positive value disables the warning.
+                 * </p>
+                 */
+                private int predicateScanWarnThreshold = 1000;
+
+                private final StreamMatches streamMatches = new StreamMatches();
+                @Data
+                public static class StreamMatches {
+
+                    /**
+                     * Hint as to how many rows are fetched per database round-trip, when
+                     * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)}
+                     * iterates over the underlying cursor.
+                     *
+                     * <p>
+                     *     A non-positive value leaves it to the JDBC driver's default.
+                     * </p>
+                     */
+                    private int fetchSize = 500;
+
+                    /**
+                     * The number of streamed entities after which these are detached from the persistence context,
+                     * so that memory stays flat while iterating over large results within a single transaction.
+                     * Any pending changes are flushed beforehand.
+                     *
+                     * <p>
+                     *     A non-positive value disables detaching.
+                     * </p>
+                     */
+                    private int detachEvery = 1000;
+                }
             }
 
             private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
@@ -2156,6 +2253,24 @@ public static class EntityChangeTracker {
                  * </p>
                  */
                 private boolean suppressAutoFlush = true;
+
+                /**
+                 * The number of (non-primitive) property pre-values that {@link EntityChangeTracker} holds on-heap
+                 * within a single transaction, beyond which any further are spilled to a memory-mapped temporary
+                 * file.  Intended for (batch) transactions changing very many entities.
+                 *
+                 * <p>
+                 *     Only values that can be restored losslessly (such as strings, numbers, temporals and enums)
+                 *     are spilled, while others (such as references to entities) are kept on-heap regardless.
+                 *     Consider also setting
+                 *     {@link Core.RuntimeServices.EntityPropertyChangePublisher.Bulk#getChunkSize() chunk-size}.
+                 * </p>
+                 *
+                 * <p>
+                 *     A non-positive value disables spilling.
+                 * </p>
+                 */
+                private int spillThreshold = 0;
             }
 
         }
@@ -2692,6 +2807,47 @@ public static class Fallback {
                     private List<String> roles;
                 }
             }
+
+            /**
+             * How the resolution of fields is wrapped within interactions (and hence transactions).
+             */
+            public enum InteractionScope {
+                /**
+                 * Each field is resolved within its own interaction (and transaction).  This is the default.
+                 */
+                FIELD,
+                /**
+                 * The GraphQL operation as a whole is resolved within a single interaction (and transaction),
+                 * reused by all (nested) field resolvers.
+                 *
+                 * <p>
+                 *     Interactions are bound to the calling thread; any field that completes asynchronously
+                 *     on some other thread is resolved within its own interaction instead (as with {@link #FIELD}).
+                 * </p>
+                 */
+                OPERATION,
+                ;
+            }
+
+            private final Interaction interaction = new Interaction();
+            @Data
+            public static class Interaction {
+
+                /**
+                 * The {@link InteractionScope} to use when executing queries.
+                 *
+                 * <p>
+                 *     Setting this to {@link InteractionScope#OPERATION} avoids opening an interaction (and
+                 *     transaction) for every field selected by the query.
+                 * </p>
+                 */
+                private InteractionScope query = InteractionScope.FIELD;
+
+                /**
+                 * The {@link InteractionScope} to use when executing mutations.
+                 */
+                private InteractionScope mutation = InteractionScope.FIELD;
+            }
         }
 
         private final Restfulobjects restfulobjects = new Restfulobjects();
@@ -2803,6 +2959,28 @@ public static class Authentication {
              */
             private boolean suppressUpdateLink = false;
 
+            /**
+             * If set (the default), then the JSON of rendered representations is written directly to the
+             * response's output stream, rather than buffering it as a {@link String} first.
+             *
+             * <p>
+             *     The bytes written are the same either way; this key allows to revert to the buffered
+             *     behaviour, eg. if some filter requires the response entity to be a {@link String}.
+             * </p>
+             */
+            private boolean streamingJsonOutput = true;
+
+            /**
+             * If set (the default), then the OpenAPI (Swagger) specs - for each visibility and format - are
+             * generated in the background once the metamodel has been loaded, such that the first request
+             * for any of them does not have to wait.
+             *
+             * <p>
+             *     Either way, generated specs are cached until the metamodel changes.
+             * </p>
+             */
+            private boolean precomputeSwaggerSpecs = true;
+
             /**
              * If left unset (the default), then the RO viewer will use the {@link javax.ws.rs.core.UriInfo}
              * (injected using {@link javax.ws.rs.core.Context}) to figure out the base Uri (used to render
@@ -3701,6 +3879,60 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            private final WriteBehind writeBehind = new WriteBehind();
+            @Data
+            public static class WriteBehind {
+
+                /**
+                 * Whether audit trail entries are written asynchronously (write-behind), in a separate transaction,
+                 * rather than within the transaction that changed the audited entities.
+                 *
+                 * <p>
+                 *     If enabled, entity property changes are queued (bounded) once their transaction has committed,
+                 *     and written in batches by a dedicated writer thread, each batch within its own transaction.
+                 *     Changes of a transaction that rolls back are discarded.  Audit trail entries therefore only
+                 *     become visible shortly after the changes' transaction has committed.
+                 * </p>
+                 *
+                 * <p>
+                 *     On shutdown, any changes still queued are written within the
+                 *     {@link #getShutdownTimeout() shutdown timeout}; changes not written by then are lost
+                 *     (their interaction ids are logged).
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The maximum number of entity property changes queued for writing.
+                 *
+                 * <p>
+                 *     When full, committing blocks for up to {@link #getEnqueueTimeout()}, after which any changes
+                 *     not queued are instead written synchronously (within a new transaction).
+                 * </p>
+                 */
+                private int queueCapacity = 100_000;
+
+                /**
+                 * Maximum number of audit trail entries written per batch (that is, per transaction).
+                 */
+                private int batchSize = 1_000;
+
+                /**
+                 * How long the writer waits for a batch to fill up, before writing what it has.
+                 */
+                private Duration flushInterval = Duration.ofMillis(500);
+
+                /**
+                 * How long committing may block waiting for space in a full queue (backpressure).
+                 */
+                private Duration enqueueTimeout = Duration.ofSeconds(1);
+
+                /**
+                 * How long to wait on shutdown for the queue to be written.
+                 */
+                private Duration shutdownTimeout = Duration.ofSeconds(30);
+            }
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3743,6 +3975,98 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            private final WriteBehind writeBehind = new WriteBehind();
+            @Data
+            public static class WriteBehind {
+
+                /**
+                 * Whether command log entries are written asynchronously (write-behind), rather than within the
+                 * user's transaction.
+                 *
+                 * <p>
+                 *     If enabled, the lifecycle transitions of a command are buffered in memory, coalesced into a
+                 *     single row once the command has completed, and written in batches by a dedicated writer thread,
+                 *     each batch within its own transaction.  A command log entry therefore only becomes visible
+                 *     shortly after its command has completed.
+                 * </p>
+                 *
+                 * <p>
+                 *     On shutdown, all completed commands still queued are written, as are any commands still in
+                 *     flight (with their state as of then), within the {@link #getShutdownTimeout() shutdown timeout}.
+                 *     Commands not written by then are lost (their interaction ids are logged).
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The maximum number of completed commands queued for writing.
+                 *
+                 * <p>
+                 *     When full, publishing a command blocks for up to {@link #getEnqueueTimeout()}, after which the
+                 *     command log entry is instead written synchronously (within the user's transaction).
+                 * </p>
+                 *
+                 * <p>
+                 *     Also bounds the number of commands in flight (not yet completed) that are tracked for being
+                 *     written on shutdown; commands beyond are logged, and only written once completed.
+                 * </p>
+                 */
+                private int queueCapacity = 10_000;
+
+                /**
+                 * Maximum number of command log entries written per batch (that is, per transaction).
+                 */
+                private int batchSize = 100;
+
+                /**
+                 * How long the writer waits for a batch to fill up, before writing what it has.
+                 */
+                private Duration flushInterval = Duration.ofMillis(500);
+
+                /**
+                 * How long publishing a command may block waiting for space in a full queue (backpressure).
+                 */
+                private Duration enqueueTimeout = Duration.ofSeconds(1);
+
+                /**
+                 * How long to wait on shutdown for the queue to be written.
+                 */
+                private Duration shutdownTimeout = Duration.ofSeconds(30);
+            }
+
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                /**
+                 * The number of worker threads the <code>RunBackgroundCommandsJob</code> uses to execute pending
+                 * background commands.
+                 *
+                 * <p>
+                 *     With more than one, commands are partitioned by their target, such that commands targeting the
+                 *     same object are still executed one after the other (in the order submitted), while different
+                 *     partitions are executed concurrently.  The default of 1 executes all commands sequentially.
+                 * </p>
+                 */
+                private int parallelism = 1;
+
+                /**
+                 * The maximum number of attempts to execute a background command, retrying if deadlocked.
+                 */
+                private int maxAttempts = 3;
+
+                /**
+                 * The (upper bound of the) delay before the first retry of a deadlocked command; doubled for each
+                 * subsequent retry up to {@link #getMaxBackoff()}, with the actual delay chosen at random (jitter).
+                 */
+                private Duration initialBackoff = Duration.ofSeconds(1);
+
+                /**
+                 * The upper bound of the delay between retries of a deadlocked command.
+                 */
+                private Duration maxBackoff = Duration.ofSeconds(30);
+            }
+
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -4274,6 +4598,31 @@ public enum PermissionsEvaluationPolicy {
              */
             private PermissionsEvaluationPolicy permissionsEvaluationPolicy = PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * How long a user's permission set, once looked up by the <code>AuthorizorSecman</code>,
+                 * is reused across interactions (requests).
+                 *
+                 * <p>
+                 *     Cached permission sets are in any case discarded as soon as any
+                 *     <code>ApplicationUser</code>, <code>ApplicationRole</code> or
+                 *     <code>ApplicationPermission</code> is persisted, updated or removed (by this application
+                 *     instance).  The time-to-live bounds the staleness of permissions that were changed
+                 *     by other means, eg. by another node of a cluster or directly in the database.
+                 * </p>
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+
+                /**
+                 * The maximum number of permission sets (one per user, or per impersonated set of roles)
+                 * to keep in the cache.
+                 */
+                private int maxSize = 1000;
+            }
+
             private final UserRegistration userRegistration = new UserRegistration();
             @Data
             public static class UserRegistration {
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.metamodel.commons;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
@@ -32,6 +33,7 @@
 import org.apache.causeway.commons.internal.reflection._Reflect;
 
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -60,13 +62,26 @@ public <T> T construct(final Constructor<T> constructor, final @Nullable Object.
 
     // -- INVOKE
 
+    /**
+     * Invokes the method via its (lazily created) {@link MethodHandle}, if available,
+     * otherwise falls back to reflective invocation.
+     */
+    @SneakyThrows
     public Object invoke(
-            final MethodFacade methodFacade, 
-            final Object targetPojo, 
+            final MethodFacade methodFacade,
+            final Object targetPojo,
             final Object[] executionParameters) {
         var method = methodFacade.asMethodForIntrospection().method();
         var args = methodFacade.getArguments(executionParameters, ParameterConverters.DEFAULT);
-        return invokeWithConvertedArgs(method, targetPojo, args);
+        var methodHandle = methodFacade.asMethodHandle().orElse(null);
+        if(methodHandle==null) {
+            return invokeWithConvertedArgs(method, targetPojo, args);
+        }
+        try {
+            return (Object) methodHandle.invokeExact(targetPojo, args);
+        } catch (Throwable e) {
+            throw toVerboseException(e, method, args);
+        }
     }
 
     public void invokeAll(final Iterable<Method> methods, final Object object) {
@@ -114,11 +129,13 @@ private Throwable toVerboseException(
         }
 
         // if method or constructor was invoked with incompatible param types, then the Throwable
-        // we receive here is of type IllegalArgumentException; in which case we can provide additional
+        // we receive here is of type IllegalArgumentException (or ClassCastException when invoked via
+        // method handle); in which case we can provide additional
         // information, but also at the expense of a potentially hiding the original cause, namely when the
         // IllegalArgumentException has a different origin and the param incompatibility check is a
         // false positive
-        if(e instanceof IllegalArgumentException) {
+        if(e instanceof IllegalArgumentException
+                || e instanceof ClassCastException) {
             boolean paramTypeMismatchEncountered = false;
             val sb = new StringBuilder();
             for(int j=0;j<parameterTypes.length;++j) {
@@ -39,6 +39,15 @@ public <T> T convert(final Class<T> parameterType, final Object parameterValue)
             return _Casts.uncheckedCast(_adaptToType(parameterType, parameterValue));
         }
 
+        /**
+         * Only primitives (when missing) and collection types (to be copied) need conversion.
+         */
+        @Override
+        public boolean isConversionRequired(final Class<?> parameterType) {
+            return parameterType.isPrimitive()
+                    || CollectionSemantics.valueOf(parameterType).isPresent();
+        }
+
         private Object _adaptToType(final Class<?> parameterType, final Object parameterValue) {
 
             if(parameterValue==null) {
@@ -44,6 +44,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.services.ixn.InteractionDtoFactory;
+import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 
@@ -110,6 +111,10 @@ public static ActionExecutor forAction(
     private final InteractionDtoFactory interactionDtoServiceInternal =
         getServiceRegistry().lookupServiceElseFail(InteractionDtoFactory.class);
 
+    @Getter(lazy=true)
+    private final ExecutionPublisher executionPublisher =
+        getServiceRegistry().lookupServiceElseFail(ExecutionPublisher.class);
+
     @Getter(lazy=true)
     private final DomainEventHelper domainEventHelper =
         DomainEventHelper.ofServiceRegistry(getServiceRegistry());
@@ -133,9 +138,12 @@ public Object execute(final ActionInvocation currentExecution) {
         // but ... no point in attempting this if no bookmark is yet available.
         // this logic is for symmetric with PropertyModifier, which has a scenario where this might occur.
         //
+        // also no point, if there is no one to consume the DTO
+        //
         val ownerAdapter = head.getOwner();
         val ownerHasBookmark = ManagedObjects.bookmark(ownerAdapter).isPresent();
-        if (ownerHasBookmark) {
+        if (ownerHasBookmark
+                && getExecutionPublisher().isAnySubscriberEnabled()) {
             val invocationDto =
                     getInteractionDtoServiceInternal().asActionInvocationDto(owningAction, head, arguments);
             currentExecution.setDto(invocationDto);
@@ -37,6 +37,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.services.ixn.InteractionDtoFactory;
+import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
@@ -130,6 +131,10 @@ public static enum ModificationVariant {
     private final InteractionDtoFactory interactionDtoServiceInternal =
         getServiceRegistry().lookupServiceElseFail(InteractionDtoFactory.class);
 
+    @Getter(lazy=true)
+    private final ExecutionPublisher executionPublisher =
+        getServiceRegistry().lookupServiceElseFail(ExecutionPublisher.class);
+
     @Getter(lazy=true)
     private final DomainEventHelper domainEventHelper =
         DomainEventHelper.ofServiceRegistry(getServiceRegistry());
@@ -149,10 +154,13 @@ public Object execute(final PropertyEdit currentExecution) {
         // One way this might occur is if using excel module to populate an entity representing each line of the spreadsheet;
         // but the entity will be transient at the point.  But there's probably very little value in creating DTOs in such a scenario.
         //
+        // also no point, if there is no one to consume the DTO
+        //
         val ownerAdapter = head.getOwner();
         val ownerHasBookmark = ManagedObjects.bookmark(ownerAdapter).isPresent();
 
-        if (ownerHasBookmark) {
+        if (ownerHasBookmark
+                && getExecutionPublisher().isAnySubscriberEnabled()) {
             val propertyEditDto =
                     getInteractionDtoServiceInternal().asPropertyEditDto(owningProperty, head, newValue);
             currentExecution.setDto(propertyEditDto);
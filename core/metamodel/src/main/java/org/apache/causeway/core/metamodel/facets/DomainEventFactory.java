@@ -0,0 +1,257 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.events.EventObjectBase;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
+import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFrom;
+import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramCount;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Instantiates domain events of a specific event type, for a specific source type.
+ * <p>
+ * Constructor selection happens only once per (event type, source type) pair,
+ * with the selected constructor(s) compiled to {@link MethodHandle}s,
+ * such that firing an event does not involve any reflective constructor lookup.
+ *
+ * @see DomainEventHelper
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class DomainEventFactory {
+
+    /**
+     * Constructor variants, in order of precedence.
+     */
+    static enum ConstructorKind {
+        /** public no-arg constructor, the source is set after instantiation */
+        NO_ARG,
+        /** public constructor accepting the source only */
+        SOURCE_ONLY,
+        /** public constructor accepting the source, followed by all (event type specific) arguments */
+        ALL_ARGS,
+        /** no suitable public constructor found */
+        NONE;
+        public boolean isAllArgs() { return this==ALL_ARGS; }
+        public boolean isNone() { return this==NONE; }
+    }
+
+    @Value
+    private static class Key {
+        Class<?> eventType;
+        Class<?> sourceType;
+    }
+
+    private static final Map<Key, DomainEventFactory> factoriesByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the (cached) factory for given {@code eventType} and {@code sourceType}.
+     *
+     * @param allArgsParamCount - number of parameters of an all-args constructor (including the source)
+     * @param allArgsParamTypes - types of the parameters following the source, that are matched at
+     *      construction time of the factory; any remaining parameters are matched against the
+     *      actual argument values, when instantiating the event
+     */
+    static DomainEventFactory forEventType(
+            final @NonNull Class<?> eventType,
+            final @NonNull Class<?> sourceType,
+            final int allArgsParamCount,
+            final @NonNull Class<?>... allArgsParamTypes) {
+        return factoriesByKey.computeIfAbsent(new Key(eventType, sourceType),
+                key->resolve(eventType, sourceType, allArgsParamCount, allArgsParamTypes));
+    }
+
+    @Getter private final @NonNull ConstructorKind constructorKind;
+    private final @NonNull Can<CompiledConstructor> constructors;
+
+    /**
+     * Returns a new event instance, or {@code null} if no suitable constructor is available.
+     * <p>
+     * Given {@code allArgs} (those following the source) are only passed on to
+     * {@link ConstructorKind#ALL_ARGS} constructors,
+     * otherwise its up to the caller to further populate the event.
+     */
+    @Nullable <E> E newEvent(final @Nullable Object source, final Object... allArgs) {
+        switch (constructorKind) {
+        case NO_ARG: {
+            final Object event = constructors.getFirstElseFail().instantiate(new Object[0]);
+            initSource(event, source);
+            return uncheckedCast(event);
+        }
+        case SOURCE_ONLY:
+            return uncheckedCast(
+                    constructors.getFirstElseFail().instantiate(new Object[] {source}));
+        case ALL_ARGS: {
+            val args = new Object[allArgs.length + 1];
+            args[0] = source;
+            System.arraycopy(allArgs, 0, args, 1, allArgs.length);
+            for(val constructor : constructors) {
+                if(constructor.accepts(args)) {
+                    return uncheckedCast(constructor.instantiate(args));
+                }
+            }
+            return null;
+        }
+        default:
+            return null;
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Setter for {@link EventObjectBase}'s (protected) source supplier,
+     * as populated by {@link EventObjectBase#getInstanceWithSource(Class, Object)},
+     * which we bypass here to avoid its reflective constructor lookup.
+     */
+    private static final MethodHandle SOURCE_SUPPLIER_SETTER = sourceSupplierSetter();
+
+    private static MethodHandle sourceSupplierSetter() {
+        try {
+            val field = EventObjectBase.class.getDeclaredField("sourceSupplier");
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Supplier.class));
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw _Exceptions.unrecoverable(e, "failed to access %s#sourceSupplier", EventObjectBase.class);
+        }
+    }
+
+    private static void initSource(final Object event, final @Nullable Object source) {
+        final Supplier<Object> sourceSupplier = ()->source;
+        try {
+            SOURCE_SUPPLIER_SETTER.invokeExact(event, (Supplier<?>) sourceSupplier);
+        } catch (Throwable e) {
+            throw _Exceptions.unrecoverable(e, "failed to initialize source of %s", event.getClass());
+        }
+    }
+
+    private static DomainEventFactory resolve(
+            final Class<?> eventType,
+            final Class<?> sourceType,
+            final int allArgsParamCount,
+            final Class<?>[] allArgsParamTypes) {
+
+        val publicConstructors = _Reflect.getPublicConstructors(eventType);
+
+        val noArgConstructor = publicConstructors
+                .filter(paramCount(0))
+                .getFirst();
+        if(noArgConstructor.isPresent()) {
+            return new DomainEventFactory(ConstructorKind.NO_ARG,
+                    Can.of(CompiledConstructor.compile(noArgConstructor.get(), 0)));
+        }
+
+        val oneArgConstructor = publicConstructors
+                .filter(paramCount(1)
+                        .and(paramAssignableFrom(0, sourceType)))
+                .getFirst();
+        if(oneArgConstructor.isPresent()) {
+            return new DomainEventFactory(ConstructorKind.SOURCE_ONLY,
+                    Can.of(CompiledConstructor.compile(oneArgConstructor.get(), 1)));
+        }
+
+        Predicate<Executable> allArgsPredicate = paramCount(allArgsParamCount)
+                .and(paramAssignableFrom(0, sourceType));
+        for (int i = 0; i < allArgsParamTypes.length; i++) {
+            allArgsPredicate = allArgsPredicate.and(paramAssignableFrom(i + 1, allArgsParamTypes[i]));
+        }
+        val allArgsConstructors = publicConstructors
+                .filter(allArgsPredicate)
+                .map(constructor->CompiledConstructor.compile(constructor, 1 + allArgsParamTypes.length));
+
+        return allArgsConstructors.isNotEmpty()
+                ? new DomainEventFactory(ConstructorKind.ALL_ARGS, allArgsConstructors)
+                : new DomainEventFactory(ConstructorKind.NONE, Can.empty());
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class CompiledConstructor {
+
+        static CompiledConstructor compile(final Constructor<?> constructor, final int firstValueCheckedParamIndex) {
+            MethodHandle methodHandle;
+            try {
+                methodHandle = MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                // fallback to reflective invocation (eg. non-public event type)
+                methodHandle = null;
+            }
+            return new CompiledConstructor(constructor, constructor.getParameterTypes(), methodHandle,
+                    firstValueCheckedParamIndex);
+        }
+
+        private final @NonNull Constructor<?> constructor;
+        private final @NonNull Class<?>[] paramTypes;
+        private final @Nullable MethodHandle methodHandle;
+        private final int firstValueCheckedParamIndex;
+
+        /**
+         * Whether the parameters that could not be matched at construction time of the factory,
+         * accept given {@code args}. Same semantics as
+         * {@link org.apache.causeway.commons.internal.reflection._Reflect.predicates#paramAssignableFromValue(int, Object)}.
+         */
+        boolean accepts(final Object[] args) {
+            for (int i = firstValueCheckedParamIndex; i < paramTypes.length; i++) {
+                if(args[i]!=null
+                        && !paramTypes[i].isAssignableFrom(args[i].getClass())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object instantiate(final Object[] args) {
+            try {
+                return methodHandle!=null
+                        ? (Object) methodHandle.invokeExact(args)
+                        : constructor.newInstance(args);
+            } catch (Throwable e) {
+                throw _Exceptions.unrecoverable(e,
+                        "failed to invoke constructor %s", constructor);
+            }
+        }
+
+    }
+
+}
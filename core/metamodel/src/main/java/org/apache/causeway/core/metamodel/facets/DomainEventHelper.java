@@ -18,8 +18,6 @@
  */
 package org.apache.causeway.core.metamodel.facets;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -27,7 +25,6 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.applib.events.EventObjectBase;
 import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
 import org.apache.causeway.applib.events.domain.ActionDomainEvent;
 import org.apache.causeway.applib.events.domain.CollectionDomainEvent;
@@ -37,8 +34,6 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.collections._Lists;
-import org.apache.causeway.commons.internal.exceptions._Exceptions;
-import org.apache.causeway.commons.internal.reflection._Reflect;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -49,9 +44,6 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
-import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFrom;
-import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramAssignableFromValue;
-import static org.apache.causeway.commons.internal.reflection._Reflect.predicates.paramCount;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -69,6 +61,23 @@ public static DomainEventHelper ofServiceRegistry(final ServiceRegistry serviceR
 
     private final MetamodelEventService metamodelEventService;
 
+    // -- FAST PATH
+
+    /**
+     * Whether an event of given {@code eventType} and {@code phase} needs to be created and published.
+     * <p>
+     * For the HIDE, DISABLE and VALIDATE phases, events without any listener cannot veto,
+     * so are not created at all.
+     * Events of the EXECUTING and EXECUTED phases are always created,
+     * as these are also recorded with the current execution and may carry a (modified) return value.
+     */
+    private boolean isObserved(
+            final AbstractDomainEvent.Phase phase,
+            final Class<?> eventType) {
+        return phase.isExecutingOrLater()
+                || metamodelEventService.hasListenersFor(eventType);
+    }
+
     // -- postEventForAction
 
     // variant using eventType and no existing event
@@ -113,6 +122,10 @@ public void postEventForAction(
 
         _Assert.assertTypeIsInstanceOf(eventType, ActionDomainEvent.class);
 
+        if(!isObserved(phase, eventType)) {
+            return null; // bale out, no one would ever see the event
+        }
+
         try {
             final ActionDomainEvent<S> event;
 
@@ -181,46 +194,18 @@ public void postEventForAction(
         throws IllegalArgumentException,
             SecurityException {
 
-        val constructors = _Reflect.getPublicConstructors(type);
-
-        val noArgConstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgConstructor!=null) {
-            final ActionDomainEvent<S> ade = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();
-            ade.setIdentifier(identifier);
-            ade.setArguments(asList(arguments));
-            return ade;
-        }
-
-        val oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
-        if(oneArgConstructor!=null) {
-
-            final Object event = invokeConstructor(oneArgConstructor, source);
-            final ActionDomainEvent<S> ade = uncheckedCast(event);
+        val factory = DomainEventFactory.forEventType(type, source.getClass(),
+                3, Identifier.class, Object[].class);
 
-            ade.setIdentifier(identifier);
-            ade.setArguments(asList(arguments));
+        if(!factory.getConstructorKind().isNone()) {
+            final ActionDomainEvent<S> ade = factory.newEvent(source, identifier, arguments);
+            if(!factory.getConstructorKind().isAllArgs()) {
+                ade.setIdentifier(identifier);
+                ade.setArguments(asList(arguments));
+            }
             return ade;
         }
 
-        val threeArgConstructor = constructors
-                .filter(paramCount(3)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        .and(paramAssignableFrom(2, Object[].class))
-                        )
-                .getFirst()
-                .orElse(null);
-
-        if(threeArgConstructor!=null) {
-            val event = invokeConstructor(threeArgConstructor, source, identifier, arguments);
-            return uncheckedCast(event);
-        }
-
         log.error("Unable to locate constructor of ActionDomainEvent subclass.\n* event's class name : {}\n* source's class name: {}\n* identifier         : {}\n", type.getName(), source.getClass().getName(), identifier.getMemberLogicalName());
 
         return null;
@@ -235,7 +220,7 @@ private static List<Object> asList(final Object[] arguments) {
 
 
     // -- postEventForProperty, newPropertyInteraction
-    public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
+    public @Nullable <S, T> PropertyDomainEvent<S, T> postEventForProperty(
             final AbstractDomainEvent.Phase phase,
             final Class<? extends PropertyDomainEvent<S, T>> eventType,
             final PropertyDomainEvent<S, T> existingEvent,
@@ -246,6 +231,10 @@ public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
 
         _Assert.assertTypeIsInstanceOf(eventType, PropertyDomainEvent.class);
 
+        if(!isObserved(phase, eventType)) {
+            return null; // bale out, no one would ever see the event
+        }
+
         try {
             final PropertyDomainEvent<S, T> event;
 
@@ -291,43 +280,19 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
             final T newValue) throws NoSuchMethodException, SecurityException, IllegalArgumentException {
 
 
-        val constructors = _Reflect.getPublicConstructors(type);
-
-        val noArgonstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgonstructor != null) {
-            final PropertyDomainEvent<S, T> pde = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();
-            pde.setIdentifier(identifier);
-            pde.setOldValue(oldValue);
-            pde.setNewValue(newValue);
-            return pde;
-        }
-
-        val oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
-        if(oneArgConstructor != null) {
-            final Object event = invokeConstructor(oneArgConstructor, source);
-            final PropertyDomainEvent<S, T> pde = uncheckedCast(event);
-            pde.setIdentifier(identifier);
-            pde.setOldValue(oldValue);
-            pde.setNewValue(newValue);
-            return pde;
-        }
+        val factory = DomainEventFactory.forEventType(type, source.getClass(),
+                4, Identifier.class);
 
-        // else
-        val fourArgConstructor = constructors
-                .filter(paramCount(4)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        .and(paramAssignableFromValue(2, oldValue))
-                        .and(paramAssignableFromValue(3, newValue))
-                ).getFirst().orElse(null);
-        if(fourArgConstructor != null) {
-            val event = invokeConstructor(fourArgConstructor, source, identifier, oldValue, newValue);
-            return uncheckedCast(event);
+        if(!factory.getConstructorKind().isNone()) {
+            final PropertyDomainEvent<S, T> pde = factory.newEvent(source, identifier, oldValue, newValue);
+            if(pde != null) {
+                if(!factory.getConstructorKind().isAllArgs()) {
+                    pde.setIdentifier(identifier);
+                    pde.setOldValue(oldValue);
+                    pde.setNewValue(newValue);
+                }
+                return pde;
+            }
         }
 
         // else
@@ -337,7 +302,7 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
 
     // -- postEventForCollection, newCollectionDomainEvent
 
-    public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
+    public @Nullable <S, T> CollectionDomainEvent<S, T> postEventForCollection(
             final AbstractDomainEvent.Phase phase,
             final Class<? extends CollectionDomainEvent<S, T>> eventType,
             final FacetHolder facetHolder,
@@ -345,6 +310,10 @@ public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
 
         _Assert.assertTypeIsInstanceOf(eventType, CollectionDomainEvent.class);
 
+        if(!isObserved(phase, eventType)) {
+            return null; // bale out, no one would ever see the event
+        }
+
         try {
             final CollectionDomainEvent<S, T> event;
 
@@ -374,58 +343,19 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
             throws NoSuchMethodException, SecurityException,
             IllegalArgumentException {
 
-        val constructors = _Reflect.getPublicConstructors(type);
+        val factory = DomainEventFactory.forEventType(type, source.getClass(),
+                2, Identifier.class);
 
-        val noArgConstructor = constructors
-                .filter(paramCount(0))
-                .getFirst().orElse(null);
-        if(noArgConstructor != null) {
-            final CollectionDomainEvent<S, T> cde = EventObjectBase.getInstanceWithSource(type, source).orElseThrow();;
-            cde.setIdentifier(identifier);
-            return cde;
-        }
-
-        val oneArgConstructor = constructors
-                .filter(paramCount(1)
-                        .and(paramAssignableFrom(0, source.getClass())))
-                .getFirst().orElse(null);
-        if(oneArgConstructor != null) {
-            final Object event = invokeConstructor(oneArgConstructor, source);
-            final CollectionDomainEvent<S, T> cde = uncheckedCast(event);
-
-            cde.setIdentifier(identifier);
+        if(!factory.getConstructorKind().isNone()) {
+            final CollectionDomainEvent<S, T> cde = factory.newEvent(source, identifier);
+            if(!factory.getConstructorKind().isAllArgs()) {
+                cde.setIdentifier(identifier);
+            }
             return cde;
         }
 
-        // else
-        // search for constructor accepting source, identifier
-        val twoArgConstructor = constructors
-                .filter(paramCount(2)
-                        .and(paramAssignableFrom(0, source.getClass()))
-                        .and(paramAssignableFrom(1, Identifier.class))
-                        )
-                .getFirst().orElse(null);
-        if(twoArgConstructor != null) {
-            val event = invokeConstructor(twoArgConstructor, source, identifier);
-            return uncheckedCast(event);
-        }
-
         // else
         throw new NoSuchMethodException(type.getName()+".<init>(...)");
     }
 
-    private static <T> T invokeConstructor(
-            final @NonNull Constructor<T> constructor,
-            final Object... args){
-
-        try {
-            return constructor.newInstance(args);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw _Exceptions.unrecoverable(e,
-                    "failed to invoke constructor %s", constructor);
-        }
-    }
-
-
 }
@@ -19,8 +19,11 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
@@ -142,8 +145,55 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, for {@link Bookmark}s that all
+     * correspond to the entity type this facet is associated with.
+     * <p>
+     * Entities that could not be found are not contained in the resulting {@link Map},
+     * which is keyed by (given) {@link Bookmark}.
+     *
+     * @implNote the default implementation fetches one by one, persistence implementations
+     *      are encouraged to fetch all entities with a single query instead
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        final Map<Bookmark, Object> entitiesByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entitiesByBookmark.put(bookmark, entityPojo)));
+        return entitiesByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Whether {@link #fetchByQuery(Query)} can order the result of given {@link Query}
+     * by given (persistent) property, that is,
+     * push a corresponding {@link Query#getOrderings() ordering} down to the database.
+     *
+     * @implNote the default implementation does not support orderings
+     */
+    default boolean isOrderingSupported(final @NonNull Query<?> query, final @NonNull String propertyName) {
+        return false;
+    }
+
+    /**
+     * Lazily streams the entities matching given {@link Query}, adapting each as it is consumed.
+     * <p>
+     * The returned {@link Stream} must be consumed and closed within the current transaction.
+     *
+     * @param fetchSize - hint as to how many rows to fetch per database round-trip (non-positive for the default)
+     * @param detachEvery - the number of consumed entities after which these are detached from the
+     *      persistence context (with any pending changes flushed beforehand), such that memory
+     *      stays flat while iterating; non-positive disables detaching
+     * @implNote the default implementation is not lazy, as it delegates to {@link #fetchByQuery(Query)},
+     *      persistence implementations are encouraged to stream from a database cursor instead
+     * @see EntityStreams
+     */
+    default Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int detachEvery) {
+        return fetchByQuery(query).stream();
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
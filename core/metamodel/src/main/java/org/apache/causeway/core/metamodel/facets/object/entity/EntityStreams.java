@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Supports {@link EntityFacet#streamByQuery(org.apache.causeway.applib.query.Query, int, int)}
+ * implementations, that lazily stream from a database cursor.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+public class EntityStreams {
+
+    /**
+     * Returns a sequential {@link Stream} over given (cursor backed) {@code iterator}.
+     * <p>
+     * Whenever another {@code chunkSize} elements have been consumed, given {@code onChunkConsumed}
+     * is called with those (already consumed) elements, before the next element is fetched;
+     * allowing persistence implementations to detach them from their persistence context.
+     *
+     * @param chunkSize - non-positive disables chunking
+     * @param onClose - called when the returned {@link Stream} is closed, eg. to release the cursor
+     */
+    public <T> Stream<T> chunked(
+            final @NonNull Iterator<T> iterator,
+            final int chunkSize,
+            final @NonNull Consumer<List<T>> onChunkConsumed,
+            final @NonNull Runnable onClose) {
+
+        final Iterator<T> chunkedIterator = chunkSize>0
+                ? new ChunkedIterator<>(iterator, chunkSize, onChunkConsumed)
+                : iterator;
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(chunkedIterator, Spliterator.ORDERED),
+                false)
+                .onClose(onClose);
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class ChunkedIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> delegate;
+        private final int chunkSize;
+        private final Consumer<List<T>> onChunkConsumed;
+        private final List<T> consumed = new ArrayList<>();
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if(consumed.size()>=chunkSize) {
+                onChunkConsumed.accept(consumed);
+                consumed.clear();
+            }
+            final T next = delegate.next();
+            consumed.add(next);
+            return next;
+        }
+
+    }
+
+}
@@ -25,6 +25,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.fa.FontAwesomeLayers;
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -533,7 +534,21 @@ private static ManagedObject other(
     static PackedManagedObject packed(
             final @NonNull ObjectSpecification elementSpec,
             final @Nullable Can<ManagedObject> nonScalar) {
-        return new _ManagedObjectPacked(elementSpec, nonScalar);
+        return new _ManagedObjectPacked(elementSpec, nonScalar, null);
+    }
+
+    /**
+     * PACKED, remembering the {@link Query} the packed entities resulted from
+     * @param elementSpec - required
+     * @param nonScalar - if <code>null</code> uses {@link Can#empty()} instead
+     * @param query - if <code>null</code> behaves as {@link #packed(ObjectSpecification, Can)}
+     * @see PackedManagedObject#getQuery()
+     */
+    static PackedManagedObject packed(
+            final @NonNull ObjectSpecification elementSpec,
+            final @Nullable Can<ManagedObject> nonScalar,
+            final @Nullable Query<?> query) {
+        return new _ManagedObjectPacked(elementSpec, nonScalar, query);
     }
 
     /**
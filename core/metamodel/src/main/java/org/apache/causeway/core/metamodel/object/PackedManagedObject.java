@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.Optional;
+
+import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.commons.collections.Can;
 
 /**
@@ -29,4 +32,10 @@
 
     Can<ManagedObject> unpack();
 
+    /**
+     * The {@link Query} the packed entities resulted from, if known,
+     * in support of re-running it page by page.
+     */
+    Optional<Query<?>> getQuery();
+
 }
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -29,6 +32,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
@@ -112,6 +116,55 @@ default Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}, recovering objects for all given {@code bookmarks},
+     * in the order given.
+     * <p>
+     * Entities are grouped by logical type, each group is then fetched at once
+     * using {@link EntityFacet#fetchByBookmarks(Can)}.
+     * Entities that cannot be found are represented by {@link ManagedObject#empty(ObjectSpecification)},
+     * bookmarks that cannot be resolved to a type by {@link ManagedObject#unspecified()}.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     */
+    default Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(_NullSafe.isEmpty(bookmarks)) {
+            return Can.empty();
+        }
+        val specLoader = getMetaModelContext().getSpecificationLoader();
+        val objects = new ManagedObject[bookmarks.size()];
+        val entityIndexesBySpec = new LinkedHashMap<ObjectSpecification, List<Integer>>();
+
+        int index = 0;
+        for(val bookmark : bookmarks) {
+            val protoObject = ProtoObject.resolve(specLoader, bookmark).orElse(null);
+            if(protoObject==null) {
+                objects[index] = ManagedObject.unspecified();
+            } else if(protoObject.getObjectSpecification().isEntity()) {
+                entityIndexesBySpec
+                    .computeIfAbsent(protoObject.getObjectSpecification(), __->new ArrayList<>())
+                    .add(index);
+            } else {
+                objects[index] = loadObject(protoObject);
+            }
+            ++index;
+        }
+
+        entityIndexesBySpec.forEach((spec, indexes)->{
+            val entityBookmarks = Can.ofCollection(indexes).map(bookmarks::getElseFail);
+            val entityPojosByBookmark = spec.entityFacetElseFail().fetchByBookmarks(entityBookmarks);
+            for(val entityIndex : indexes) {
+                val bookmark = bookmarks.getElseFail(entityIndex);
+                val entityPojo = entityPojosByBookmark.get(bookmark);
+                objects[entityIndex] = entityPojo!=null
+                        ? ManagedObject.entity(spec, entityPojo, Optional.of(bookmark))
+                        : ManagedObject.empty(spec);
+            }
+        });
+
+        return Can.ofArray(objects);
+    }
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -148,6 +201,23 @@ default ManagedObject loadObjectElseFail(final @NonNull Bookmark bookmark) {
         return adapter;
     }
 
+    /**
+     * Bulk variant of {@link #loadObjectElseFail(Bookmark)}, with the same checks applied per element.
+     * @see #loadObjects(Can)
+     */
+    default Can<ManagedObject> loadObjectsElseFail(final @NonNull Can<Bookmark> bookmarks) {
+        return bookmarks.zipMap(loadObjects(bookmarks), (bookmark, adapter)->{
+            if(adapter==ManagedObject.unspecified()) {
+                throw _Exceptions.unrecoverable("failed to restore object from bookmark %s", bookmark);
+            }
+            if(adapter.getSpecialization().isEntity()) {
+                _Assert.assertEquals(bookmark, adapter.getBookmark().orElse(null),
+                        ()->"object loaded from bookmark must itself return an equal bookmark");
+            }
+            return adapter;
+        });
+    }
+
     /**
      * Resolves injection-points for the result. (Handles service injection.)
      */
@@ -189,6 +259,7 @@ public default ManagedObject adapt(final @Nullable Object pojo) {
     /**
      * Suitable for adapting a plural.
      * If {@code pojo} is an entity, automatically memoizes its bookmark.
+     * If {@code pojo} is a {@link QueryResultList}, the packed result remembers its query.
      * <p>
      * Resolves injection-points for the result. (Handles service injection.)
      */
@@ -219,7 +290,10 @@ public default ManagedObject adapt(
                         spec.getElementSpecification().orElseGet(fallbackElementType),
                         _NullSafe.streamAutodetect(pojo)
                         .map(element->adapt(element))
-                        .collect(Can.toCan()));
+                        .collect(Can.toCan()),
+                        pojo instanceof QueryResultList
+                            ? ((QueryResultList<?>) pojo).getQuery()
+                            : null);
     }
 
 
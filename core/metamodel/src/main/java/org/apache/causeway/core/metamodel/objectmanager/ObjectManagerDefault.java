@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -28,6 +32,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
@@ -37,6 +42,7 @@
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -92,9 +98,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             val elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            val objects = demementifyAll(objectMementoCollection.unwrapList());
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -108,6 +112,47 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
     }
 
 
+    // -- HELPER
+
+    /**
+     * Entities are loaded in bulk (one query per logical type),
+     * while preserving the order of given {@code mementos};
+     * each is checked as with a lookup by {@link ObjectManager#loadObjectElseFail(Bookmark)}.
+     */
+    private Can<ManagedObject> demementifyAll(final List<ObjectMemento> mementos) {
+        val objects = new ManagedObject[mementos.size()];
+        val entityIndexes = new ArrayList<Integer>();
+        val entityBookmarks = new ArrayList<Bookmark>();
+
+        for(int i = 0; i < mementos.size(); ++i) {
+            val memento = mementos.get(i);
+            if(isEntityLookup(memento)) {
+                entityIndexes.add(i);
+                entityBookmarks.add(memento.getBookmark());
+            } else {
+                objects[i] = demementify(memento);
+            }
+        }
+
+        if(!entityIndexes.isEmpty()) {
+            val entities = loadObjectsElseFail(Can.ofCollection(entityBookmarks));
+            for(int j = 0; j < entityIndexes.size(); ++j) {
+                objects[entityIndexes.get(j)] = entities.getElseFail(j);
+            }
+        }
+
+        return Stream.of(objects)
+                .collect(Can.toCan());
+    }
+
+    private boolean isEntityLookup(final @Nullable ObjectMemento memento) {
+        return memento instanceof ObjectMementoForScalar
+                && ((ObjectMementoForScalar) memento).isRecreatedByLookup()
+                && getSpecificationLoader().specForLogicalType(memento.getLogicalType())
+                    .map(ObjectSpecification::isEntity)
+                    .orElse(false);
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         val objectManager = new ObjectManagerDefault(metaModelContext);
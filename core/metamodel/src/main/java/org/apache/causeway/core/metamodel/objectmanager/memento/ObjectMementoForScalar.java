@@ -145,6 +145,15 @@ public ManagedObject reconstructObject(final MetaModelContext mmc) {
         return recreateStrategy.recreateObject(this, mmc);
     }
 
+    /**
+     * Whether {@link #reconstructObject(MetaModelContext)} recovers the object by looking it up
+     * via its {@link #getBookmark()}, in which case callers may instead load multiple objects in bulk.
+     */
+    public boolean isRecreatedByLookup() {
+        return recreateStrategy == _Recreatable.RecreateStrategy.LOOKUP
+                && bookmark != null;
+    }
+
     @Override
     public int hashCode() {
         return recreateStrategy.hashCode(this);
@@ -18,12 +18,25 @@
  */
 package org.apache.causeway.core.metamodel.services.events;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
@@ -37,6 +50,8 @@
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 
 import lombok.Builder;
+import lombok.NonNull;
+import lombok.val;
 
 /**
  *
@@ -51,6 +66,59 @@
 public class MetamodelEventService {
 
     @Inject private ApplicationEventPublisher publisher;
+    @Inject private ApplicationContext applicationContext;
+
+    private final Map<Class<?>, Boolean> hasListenersByEventType = new ConcurrentHashMap<>();
+    private final AtomicBoolean listenersSettled = new AtomicBoolean();
+
+    // -- LISTENER DISCOVERY
+
+    /**
+     * Whether there is any listener, that would receive events of given {@code eventType}.
+     * <p>
+     * The outcome is memoized per event type.
+     * Errs on the side of caution, that is, answers {@code true} whenever this cannot be decided,
+     * eg. while the application context is not yet fully refreshed.
+     */
+    public boolean hasListenersFor(final @NonNull Class<?> eventType) {
+        if(!listenersSettled.get()
+                || !(applicationContext instanceof AbstractApplicationContext)) {
+            return true;
+        }
+        return hasListenersByEventType.computeIfAbsent(eventType, this::lookupListenersFor);
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        // listeners might have changed, so discard any memoized outcomes
+        hasListenersByEventType.clear();
+        listenersSettled.set(true);
+    }
+
+    private boolean lookupListenersFor(final Class<?> eventType) {
+        val context = (AbstractApplicationContext) applicationContext;
+
+        // listener beans not yet instantiated (prototypes or lazy singletons) are not registered
+        // with the context until requested, so we cannot tell
+        val beanFactory = context.getBeanFactory();
+        for(val beanName : beanFactory.getBeanNamesForType(ApplicationListener.class, true, false)) {
+            if(!beanFactory.containsSingleton(beanName)) {
+                return true;
+            }
+        }
+
+        // events not extending ApplicationEvent are wrapped by Spring as payload events
+        val payloadEventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+        for(val listener : context.getApplicationListeners()) {
+            val genericListener = listener instanceof GenericApplicationListener
+                    ? (GenericApplicationListener) listener
+                    : new GenericApplicationListenerAdapter(listener);
+            if(genericListener.supportsEventType(payloadEventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     // -- METAMODEL UI EVENTS
 
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.xactn.TransactionId;
@@ -28,4 +29,14 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * As {@link #getPropertyChanges(Timestamp, String, TransactionId)}, but without collecting these up front.
+     */
+    Stream<EntityPropertyChange> streamPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
+
+    /**
+     * The number of property changes, as would be returned by {@link #getPropertyChanges(Timestamp, String, TransactionId)}.
+     */
+    int countPropertyChanges();
+
 }
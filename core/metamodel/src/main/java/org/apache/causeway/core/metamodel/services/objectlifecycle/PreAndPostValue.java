@@ -46,6 +46,13 @@ public static PreAndPostValue pre(final Object preValue) {
         return new PreAndPostValue(preValue);
     }
 
+    /**
+     * Restores a pre value, along with its eagerly calculated string representation.
+     */
+    public static PreAndPostValue pre(final Object preValue, final String preString) {
+        return new PreAndPostValue(preValue, preString);
+    }
+
     private PreAndPostValue(final Object pre) {
         this.pre = pre;
         this.preString = asString(pre);
@@ -53,6 +60,13 @@ private PreAndPostValue(final Object pre) {
         this.postString = null;
     }
 
+    private PreAndPostValue(final Object pre, final String preString) {
+        this.pre = pre;
+        this.preString = preString;
+        this.post = null;
+        this.postString = null;
+    }
+
     private PreAndPostValue(final PreAndPostValue pre, final Object post) {
         this.pre = pre.getPre();
         this.preString = pre.getPreString();
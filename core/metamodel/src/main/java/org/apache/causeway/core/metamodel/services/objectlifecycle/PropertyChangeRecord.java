@@ -66,6 +66,14 @@ public static PropertyChangeRecord ofCurrent(
                         .withPreValueSetTo(currentValue);
     }
 
+    public static PropertyChangeRecord of(
+            final @NonNull PropertyChangeRecordId pcrId,
+            final @NonNull PreAndPostValue preAndPostValue) {
+        val propertyChangeRecord = new PropertyChangeRecord(pcrId);
+        propertyChangeRecord.preAndPostValue = preAndPostValue;
+        return propertyChangeRecord;
+    }
+
     public static PropertyChangeRecord ofDeleting(
             final @NonNull PropertyChangeRecordId id) {
         return new PropertyChangeRecord(id)
@@ -42,16 +42,29 @@ public final class PropertyChangeRecordId {
     public static PropertyChangeRecordId of(
             final @NonNull ManagedObject entity,
             final @NonNull OneToOneAssociation property) {
-        return new PropertyChangeRecordId(entity, property);
+        return new PropertyChangeRecordId(entity, property, ManagedObjects.bookmarkElseFail(entity));
     }
+
+    /**
+     * Variant for when the entity's {@link Bookmark} is already known,
+     * eg. as the entity might have been deleted since.
+     */
+    public static PropertyChangeRecordId of(
+            final @NonNull ManagedObject entity,
+            final @NonNull OneToOneAssociation property,
+            final @NonNull Bookmark bookmark) {
+        return new PropertyChangeRecordId(entity, property, bookmark);
+    }
+
     private PropertyChangeRecordId(
             final ManagedObject entity,
-            final OneToOneAssociation property) {
+            final OneToOneAssociation property,
+            final Bookmark bookmark) {
 
         // these exposed as a convenience
         this.entity = entity;
         this.property = property;
-        this.bookmark = ManagedObjects.bookmarkElseFail(entity);
+        this.bookmark = bookmark;
 
         // these are the key
         this.bookmarkStr = bookmark.toString();
@@ -53,6 +53,14 @@ public interface ExecutionPublisher extends DisposableBean {
      */
     void publishPropertyEdit(Execution<?,?> execution);
 
+    /**
+     * Whether any {@link ExecutionSubscriber} is enabled.
+     * <p>
+     * If not, there is no need to populate any {@link Execution#getDto() execution DTO}s,
+     * as these are only ever consumed by subscribers.
+     */
+    boolean isAnySubscriberEnabled();
+
     /**
      * Slightly hokey wormhole (anti)pattern to disable publishing for mixin associations.
      */
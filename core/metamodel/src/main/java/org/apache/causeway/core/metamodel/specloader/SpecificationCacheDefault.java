@@ -20,6 +20,8 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -33,39 +35,64 @@
 import lombok.NonNull;
 import lombok.val;
 
-
+/**
+ * Lookups are lock-free, backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+ * <p>
+ * A spec not yet cached is created at most once: concurrent callers asking for the same class wait on
+ * a per-class future, rather than on a lock shared by all classes. If the mapping function recursively
+ * asks for the very class it is creating, it is not made to wait on itself, but gets a spec created
+ * by the recursive call instead (first one cached wins).
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = _Maps.newConcurrentHashMap();
+
+    // specs currently being created, by the thread that creates them
+    private final Map<Class<?>, PendingSpec<T>> pendingByClass = _Maps.newConcurrentHashMap();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
+    private static class PendingSpec<T> {
+        final Thread owner = Thread.currentThread();
+        final CompletableFuture<T> future = new CompletableFuture<>();
+    }
+
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
-        synchronized(this) {
-            T spec = specByClass.get(cls);
-            if(spec==null) {
-                spec = mappingFunction.apply(cls);
-                internalPut(spec);
-
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
 
-            }
+        val spec = specByClass.get(cls);
+        if(spec!=null) {
             return spec;
         }
+
+        val pending = new PendingSpec<T>();
+        val existingPending = pendingByClass.putIfAbsent(cls, pending);
+        if(existingPending!=null) {
+            return existingPending.owner == Thread.currentThread()
+                    ? internalPut(mappingFunction.apply(cls)) // recursive call, must not wait on itself
+                    : await(existingPending);
+        }
+
+        try {
+            // double check, as the spec might have been put just before we registered as pending
+            val created = Optional.ofNullable(specByClass.get(cls))
+                    .orElseGet(()->internalPut(mappingFunction.apply(cls)));
+            pending.future.complete(created);
+            return created;
+        } catch (Throwable e) {
+            pending.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingByClass.remove(cls, pending);
+        }
     }
 
     @Override
@@ -78,9 +105,7 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
@@ -107,16 +132,30 @@ public void forEach(final Consumer<T> onSpec) {
 
     // -- HELPER
 
-    private void internalPut(@Nullable final T spec) {
+    @Nullable
+    private T internalPut(@Nullable final T spec) {
         if(spec==null) {
-            return;
+            return null;
         }
         val cls = spec.getCorrespondingClass();
-        val existing = specByClass.put(cls, spec);
-        if(existing==null) {
+        synchronized(this) {
+            val existing = specByClass.putIfAbsent(cls, spec);
+            if(existing!=null) {
+                return existing;
+            }
             vList.add(spec); // add to vList only if we don't have it already
+            return spec;
         }
     }
 
+    private static <T> T await(final PendingSpec<T> pending) {
+        try {
+            return pending.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : e;
+        }
+    }
 
 }
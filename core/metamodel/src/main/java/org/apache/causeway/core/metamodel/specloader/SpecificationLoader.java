@@ -111,6 +111,16 @@ public interface SpecificationLoader {
 
     void reloadSpecification(Class<?> domainType);
 
+    /**
+     * Incremented whenever the meta-model is created or disposed, or any of its specifications
+     * is loaded (including lazily, after the meta-model was created)
+     * or {@link #reloadSpecification(Class) reloaded}.
+     * <p>
+     * Allows artifacts derived from the meta-model (eg. generated API specs) to be cached,
+     * until this count changes.
+     */
+    long getModificationCount();
+
     /**
      * Return the specification for the specified class of object.
      *
@@ -25,6 +25,7 @@
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -134,6 +135,7 @@
 
     private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
+    private final AtomicLong modificationCount = new AtomicLong();
 
     /**
      * We only ever mark the meta-model as fully introspected if in {@link #isFullIntrospect() full}
@@ -329,6 +331,8 @@ public void createMetaModel() {
         if(isFullIntrospect()) {
             setMetamodelFullyIntrospected(true);
         }
+
+        modificationCount.incrementAndGet();
     }
 
     @Override
@@ -346,8 +350,10 @@ public void disposeMetaModel() {
         waitForValidationToFinish();
         logicalTypeResolver.clear();
         cache.clear();
+        setMetamodelFullyIntrospected(false);
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
+        modificationCount.incrementAndGet();
         log.info("Metamodel disposed.");
     }
 
@@ -387,6 +393,12 @@ private boolean isFullIntrospect() {
     public void reloadSpecification(final Class<?> domainType) {
         invalidateCache(domainType);
         loadSpecification(domainType, IntrospectionState.FULLY_INTROSPECTED);
+        modificationCount.incrementAndGet();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
     }
 
     @Override
@@ -577,10 +589,12 @@ private ObjectSpecification _loadSpecification(
 
         val substitutedType = substitute.apply(type);
 
-        val spec = cache.computeIfAbsent(substitutedType, _spec->
-            logicalTypeResolver
+        val spec = cache.computeIfAbsent(substitutedType, _spec->{
+            modificationCount.incrementAndGet();
+            return logicalTypeResolver
                 .register(
-                        createSpecification(beanClassifier.apply(substitutedType))));
+                        createSpecification(beanClassifier.apply(substitutedType)));
+        });
 
         spec.introspectUpTo(upTo);
 
@@ -22,6 +22,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,7 +47,6 @@
 import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.collections._Streams;
-import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.metamodel.consent.Consent;
@@ -196,7 +196,18 @@ public Can<ObjectSpecification> snapshot() {
     private AliasedFacet aliasedFacet;
     private CssClassFacet cssClassFacet;
 
-    private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+    private volatile IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
+
+    /*
+     * When introspecting in parallel, other threads wait for an ongoing introspection to complete,
+     * rather than carry on with a partially introspected spec.
+     * Type hierarchies are acyclic, so waiting for the type to be introspected is always safe.
+     * However members may refer to each other's types in cycles, so waiting for the members to be introspected
+     * is only safe if the current thread is not itself part way through introspecting some other spec.
+     */
+    private final ReentrantLock typeIntrospectionLock = new ReentrantLock();
+    private final ReentrantLock membersIntrospectionLock = new ReentrantLock();
+    private static final ThreadLocal<Boolean> introspecting = ThreadLocal.withInitial(()->false);
 
 
     // -- Constructor
@@ -263,45 +274,52 @@ public void introspectUpTo(final IntrospectionState upTo) {
             log.debug("introspectingUpTo: {}, {}", getFullIdentifier(), upTo);
         }
 
-        boolean revalidate = false;
-
-        switch (introspectionState) {
-        case NOT_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectType();
+        if(introspectionState.compareTo(IntrospectionState.TYPE_INTROSPECTED) < 0) {
+            typeIntrospectionLock.lock();
+            try {
+                // if TYPE_BEING_INTROSPECTED, we have re-entered (while introspecting the type): nothing to do
+                if(introspectionState == IntrospectionState.NOT_INTROSPECTED) {
+                    runIntrospecting(this::introspectType);
+                }
+            } finally {
+                typeIntrospectionLock.unlock();
             }
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
-            }
-            // set to avoid infinite loops
-            break;
+        }
 
-        case TYPE_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectType)
-            break;
+        if(!isLessThan(upTo)
+                || introspectionState.compareTo(IntrospectionState.TYPE_INTROSPECTED) < 0) {
+            return;
+        }
 
-        case TYPE_INTROSPECTED:
-            if(isLessThan(upTo)) {
-                introspectFully();
-                revalidate = true;
+        val locked = introspecting.get()
+                ? membersIntrospectionLock.tryLock()
+                : lock(membersIntrospectionLock);
+        if(!locked) {
+            return; // members are being introspected by another thread, that in turn may be waiting for us
+        }
+        try {
+            // if MEMBERS_BEING_INTROSPECTED, we have re-entered (while introspecting the members): nothing to do
+            if(introspectionState == IntrospectionState.TYPE_INTROSPECTED) {
+                runIntrospecting(this::introspectFully);
+                getSpecificationLoader().validateLater(this);
             }
-            break;
-
-        case MEMBERS_BEING_INTROSPECTED:
-            // nothing to do (interim state during introspectully)
-            break;
-
-        case FULLY_INTROSPECTED:
-            // nothing to do ... all done
-            break;
-
-        default:
-            throw _Exceptions.unexpectedCodeReach();
+        } finally {
+            membersIntrospectionLock.unlock();
         }
+    }
+
+    private static boolean lock(final ReentrantLock lock) {
+        lock.lock();
+        return true;
+    }
 
-        if(revalidate) {
-            getSpecificationLoader().validateLater(this);
+    private static void runIntrospecting(final Runnable introspection) {
+        val wasIntrospecting = introspecting.get();
+        introspecting.set(true);
+        try {
+            introspection.run();
+        } finally {
+            introspecting.set(wasIntrospecting);
         }
     }
 
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.tabular.interactive;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +31,9 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryOrdering;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
@@ -40,6 +44,7 @@
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.consent.InteractionResult;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.interactions.InteractionUtils;
 import org.apache.causeway.core.metamodel.interactions.ObjectVisibilityContext;
@@ -55,6 +60,7 @@
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
 import lombok.AccessLevel;
@@ -69,7 +75,7 @@
     // -- FACTORIES
 
     public static DataTableInteractive empty(final ManagedMember managedMember, final Where where) {
-        return new DataTableInteractive(managedMember, where, Can::empty);
+        return new DataTableInteractive(managedMember, where, Can::empty, null);
     }
 
     public static DataTableInteractive forCollection(
@@ -77,7 +83,8 @@ public static DataTableInteractive forCollection(
         return new DataTableInteractive(managedCollection, managedCollection.getWhere(), ()->
             managedCollection
             .streamElements()
-            .collect(Can.toCan()));
+            .collect(Can.toCan()),
+            null);
     }
 
     public static DataTableInteractive forAction(
@@ -86,17 +93,22 @@ public static DataTableInteractive forAction(
             final ManagedObject actionResult) {
 
         if(actionResult==null) {
-            new DataTableInteractive(managedAction, managedAction.getWhere(), Can::empty);
+            new DataTableInteractive(managedAction, managedAction.getWhere(), Can::empty, null);
         }
         if(!(actionResult instanceof PackedManagedObject)) {
             throw _Exceptions.unexpectedCodeReach();
         }
 
-        val elements = ((PackedManagedObject)actionResult).unpack();
+        val packed = (PackedManagedObject)actionResult;
+        val elements = packed.unpack();
         elements.forEach(ManagedObject::getBookmark);
 
         return new DataTableInteractive(managedAction, managedAction.getWhere(),
-                ()->elements);
+                ()->elements,
+                // re-running the query page by page is not an option, if elements are to be sorted in memory
+                managedAction.getMetaModel().getElementComparator().isPresent()
+                    ? null
+                    : packed.getQuery().orElse(null));
     }
 
     // -- CONSTRUCTION
@@ -104,6 +116,8 @@ public static DataTableInteractive forAction(
     // as this is a layer of abstraction, don't expose via getter
     final @NonNull ManagedMember managedMember;
     final @NonNull Where where;
+    // the query the data elements resulted from, if any
+    private final @Nullable Query<?> query;
 
     @Getter private final @NonNull LazyObservable<Can<ManagedObject>> dataElements;
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
@@ -118,10 +132,12 @@ private DataTableInteractive(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
-            final Supplier<Can<ManagedObject>> elementSupplier) {
+            final Supplier<Can<ManagedObject>> elementSupplier,
+            final @Nullable Query<?> query) {
 
         this.managedMember = managedMember;
         this.where = where;
+        this.query = query;
 
         //dataElements = _Observables.lazy(elementSupplier);
         dataElements = _Observables.lazy(()->elementSupplier.get().map(
@@ -186,9 +202,14 @@ public Optional<TableDecorator> getTableDecoratorIfAny() {
 
     /**
      * Count filtered data rows.
+     * <p>
+     * If {@link #isQueryBacked()}, counts all data elements instead,
+     * consistent with the paging of {@link #getDataRowsPage(long, long, OneToOneAssociation, boolean)}.
      */
     public int getElementCount() {
-        return dataRowsFiltered.getValue().size();
+        return isQueryBacked()
+                ? dataElements.getValue().size()
+                : dataRowsFiltered.getValue().size();
     }
 
     public ObjectMember getMetaModel() {
@@ -201,12 +222,90 @@ public ObjectSpecification getElementType() {
 
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
+        if(isQueryBacked()) {
+            // only rows of the most recent page are known
+            return dataRowsPage.stream()
+                    .filter(dr->dr.getUuid().equals(uuid))
+                    .findFirst();
+        }
         // lookup can be safely cached
         return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
                 .filter(dr->dr.getUuid().equals(uuid))
                 .findFirst());
     }
 
+    // -- QUERY BACKED PAGING
+
+    private volatile Can<DataRow> dataRowsPage = Can.empty();
+
+    /**
+     * Whether the data elements resulted from a {@link Query} that can be re-run page by page,
+     * such that paging and sorting is done by the database, rather than in memory.
+     */
+    public boolean isQueryBacked() {
+        return entityFacetForQuery().isPresent();
+    }
+
+    /**
+     * Whether {@link #getDataRowsPage(long, long, OneToOneAssociation, boolean)} can sort by given property.
+     */
+    public boolean isQueryOrderingSupported(final @NonNull OneToOneAssociation sortProperty) {
+        // references would be ordered by key in the database, but by title in memory
+        return sortProperty.getElementType().isValue()
+                && entityFacetForQuery()
+                    .map(entityFacet->entityFacet.isOrderingSupported(query, sortProperty.getId()))
+                    .orElse(false);
+    }
+
+    /**
+     * Re-runs the {@link Query} for the requested page only, optionally ordered by given property.
+     * <p>
+     * Hidden rows are filtered per page, hence a page might have fewer rows than requested.
+     */
+    public Can<DataRow> getDataRowsPage(
+            final long skip,
+            final long limit,
+            final @Nullable OneToOneAssociation sortProperty,
+            final boolean ascending) {
+
+        val entityFacet = entityFacetForQuery()
+                .orElseThrow(()->_Exceptions.illegalState("data table is not backed by a query"));
+
+        // pages are relative to the range of the original query
+        val range = query.getRange();
+        val pageLimit = range.hasLimit()
+                ? Math.min(limit, range.getLimit() - skip)
+                : limit;
+        if(pageLimit <= 0) {
+            return Can.empty();
+        }
+
+        val orderings = new ArrayList<QueryOrdering>();
+        if(sortProperty!=null) {
+            orderings.add(QueryOrdering.of(sortProperty.getId(), ascending));
+        }
+        // original orderings break ties
+        orderings.addAll(query.getOrderings());
+
+        val pageQuery = query
+                .withRange(QueryRange.of(range.getStart() + skip, pageLimit))
+                .withOrdering(orderings.toArray(new QueryOrdering[0]));
+
+        val pageRows = entityFacet.fetchByQuery(pageQuery)
+                .map(MetaModelContext.instanceElseFail()::injectServicesInto)
+                .filter(this::ignoreHidden)
+                .map(domainObject->new DataRow(this, domainObject));
+        this.dataRowsPage = pageRows;
+        return pageRows;
+    }
+
+    private Optional<EntityFacet> entityFacetForQuery() {
+        return Optional.ofNullable(query)
+                .flatMap(q->MetaModelContext.instanceElseFail().getSpecificationLoader()
+                        .specForType(q.getResultType()))
+                .flatMap(ObjectSpecification::entityFacet);
+    }
+
     // -- TOGGLE ALL
 
     final AtomicBoolean isToggleAllEvent = new AtomicBoolean();
@@ -326,7 +425,8 @@ public DataTableInteractive getDataTableModel(final ManagedObject owner) {
                 val managedColl = collInteraction.getManagedCollection().orElseThrow();
                 // invocation bypassing domain events (pass-through)
                 return new DataTableInteractive(managedColl, where, ()->
-                    managedColl.streamElements(InteractionInitiatedBy.PASS_THROUGH).collect(Can.toCan()));
+                    managedColl.streamElements(InteractionInitiatedBy.PASS_THROUGH).collect(Can.toCan()),
+                    null);
             }
             val actionInteraction = ActionInteraction.start(owner, memberId, where);
             val managedAction = actionInteraction.getManagedActionElseFail();
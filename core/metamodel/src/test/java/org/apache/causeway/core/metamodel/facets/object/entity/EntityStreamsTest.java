@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.val;
+
+class EntityStreamsTest {
+
+    @Test
+    void chunked_whenConsumed_callsBackPerChunkOfConsumedElements() {
+        val chunks = new ArrayList<List<Integer>>();
+
+        val consumed = EntityStreams.chunked(
+                    IntStream.range(0, 7).boxed().iterator(), 3,
+                    chunk->chunks.add(new ArrayList<>(chunk)),
+                    ()->{})
+                .collect(Collectors.toList());
+
+        assertThat(consumed).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        // the trailing (incomplete) chunk is left to the persistence context
+        assertThat(chunks).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+    }
+
+    @Test
+    void chunked_whenChunkSizeNonPositive_neverCallsBack() {
+        val callbacks = new AtomicInteger();
+
+        val count = EntityStreams.chunked(
+                    IntStream.range(0, 7).boxed().iterator(), 0,
+                    chunk->callbacks.incrementAndGet(),
+                    ()->{})
+                .count();
+
+        assertThat(count).isEqualTo(7);
+        assertThat(callbacks).hasValue(0);
+    }
+
+    @Test
+    void chunked_whenPartiallyConsumed_callsBackOnlyForConsumedElements() {
+        val chunks = new ArrayList<List<Integer>>();
+
+        val consumed = EntityStreams.chunked(
+                    IntStream.range(0, 100).boxed().iterator(), 2,
+                    chunk->chunks.add(new ArrayList<>(chunk)),
+                    ()->{})
+                .limit(5)
+                .collect(Collectors.toList());
+
+        assertThat(consumed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(chunks).containsExactly(List.of(0, 1), List.of(2, 3));
+    }
+
+    @Test
+    void chunked_whenClosed_releasesCursor() {
+        val closed = new AtomicInteger();
+
+        try(val stream = EntityStreams.chunked(
+                    IntStream.range(0, 3).boxed().iterator(), 2,
+                    chunk->{},
+                    closed::incrementAndGet)
+                .map(i->i * 2)) {
+            assertThat(stream.findFirst()).hasValue(0);
+        }
+
+        assertThat(closed).hasValue(1);
+    }
+
+}
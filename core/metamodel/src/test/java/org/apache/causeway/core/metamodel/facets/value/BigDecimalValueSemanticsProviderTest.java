@@ -19,18 +19,24 @@
 package org.apache.causeway.core.metamodel.facets.value;
 
 import java.math.BigDecimal;
+import java.text.DecimalFormat;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.apache.causeway.applib.exceptions.recoverable.TextEntryParseException;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.valuesemantics.BigDecimalValueSemantics;
 
+import lombok.val;
+
 class BigDecimalValueSemanticsProviderTest
 extends ValueSemanticsProviderAbstractTestCase<BigDecimal> {
 
@@ -106,6 +112,28 @@ void titleOf() {
         assertEquals("34132.199", value.titlePresentation(null, bigDecimal));
     }
 
+    @Test
+    void numberFormatNotAffectedByMutatingAPriorOne() {
+        val valueSemantics = new BigDecimalValueSemanticsExposingNumberFormat();
+        valueSemantics.setCausewayConfiguration(causewayConfiguration);
+
+        val format = valueSemantics.numberFormat();
+        format.setMaximumFractionDigits(0);
+        format.setMinimumFractionDigits(0);
+        format.setGroupingUsed(true);
+
+        val nextFormat = valueSemantics.numberFormat();
+        assertNotSame(format, nextFormat);
+        assertEquals(16, nextFormat.getMaximumFractionDigits());
+        assertFalse(nextFormat.isGroupingUsed());
+        assertEquals("34132.199", valueSemantics.titlePresentation(null, bigDecimal));
+
+        // configuration changes are picked up by subsequent calls
+        causewayConfiguration.getValueTypes().getBigDecimal().setUseGroupingSeparator(true);
+        assertTrue(valueSemantics.numberFormat().isGroupingUsed());
+        assertEquals("34,132.199", valueSemantics.titlePresentation(null, bigDecimal));
+    }
+
     @Test
     void titleOfWhenUseGroupingSeparator() {
         causewayConfiguration.getValueTypes().getBigDecimal().setUseGroupingSeparator(true);
@@ -113,6 +141,12 @@ void titleOfWhenUseGroupingSeparator() {
         assertEquals("34,132.199", value.titlePresentation(null, bigDecimal));
     }
 
+    private static class BigDecimalValueSemanticsExposingNumberFormat extends BigDecimalValueSemantics {
+        DecimalFormat numberFormat() {
+            return getNumberFormat(null);
+        }
+    }
+
     @Override
     protected BigDecimal getSample() {
         return bigDecimal;
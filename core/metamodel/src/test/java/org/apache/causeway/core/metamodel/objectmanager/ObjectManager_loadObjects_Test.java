@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.val;
+
+class ObjectManager_loadObjects_Test {
+
+    private ObjectManager objectManager;
+    private ObjectSpecification customerSpec;
+    private EntityFacet customerEntityFacet;
+
+    private final Bookmark customer1 = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1");
+    private final Bookmark customer2 = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "2");
+    private final Bookmark unknown = Bookmark.forLogicalTypeNameAndIdentifier("demo.Unknown", "1");
+
+    @BeforeEach
+    void setUp() {
+        customerEntityFacet = mock(EntityFacet.class, CALLS_REAL_METHODS);
+        customerSpec = mock(ObjectSpecification.class);
+        when(customerSpec.isEntity()).thenReturn(true);
+        when(customerSpec.entityFacetElseFail()).thenReturn(customerEntityFacet);
+
+        val specLoader = mock(SpecificationLoader.class);
+        when(specLoader.specForLogicalTypeName("demo.Customer")).thenReturn(Optional.of(customerSpec));
+        when(specLoader.specForLogicalTypeName("demo.Unknown")).thenReturn(Optional.empty());
+
+        val mmc = mock(MetaModelContext.class);
+        when(mmc.getSpecificationLoader()).thenReturn(specLoader);
+
+        objectManager = mock(ObjectManager.class, CALLS_REAL_METHODS);
+        doReturn(mmc).when(objectManager).getMetaModelContext();
+    }
+
+    @Test
+    void entitiesOfSameType_areFetchedAtOnce_missingOnesMapToEmpty() {
+        doReturn(Map.of()).when(customerEntityFacet).fetchByBookmarks(any());
+
+        val objects = objectManager.loadObjects(Can.of(customer1, unknown, customer2));
+
+        verify(customerEntityFacet, times(1)).fetchByBookmarks(Can.of(customer1, customer2));
+
+        assertEquals(3, objects.size());
+        // missing entities are represented by empty objects, yet specified ...
+        assertTrue(ManagedObjects.isNullOrUnspecifiedOrEmpty(objects.getElseFail(0)));
+        assertSame(customerSpec, objects.getElseFail(0).getSpecification());
+        assertSame(customerSpec, objects.getElseFail(2).getSpecification());
+        // ... whereas bookmarks that cannot be resolved to a type map to unspecified
+        assertSame(ManagedObject.unspecified(), objects.getElseFail(1));
+    }
+
+    @Test
+    void fetchByBookmarks_byDefault_omitsMissingEntities_preservingOrder() {
+        doReturn(Optional.empty()).when(customerEntityFacet).fetchByBookmark(customer1);
+        doReturn(Optional.of("customer-2")).when(customerEntityFacet).fetchByBookmark(customer2);
+
+        val entitiesByBookmark = customerEntityFacet.fetchByBookmarks(Can.of(customer1, customer2));
+
+        assertEquals(Map.of(customer2, "customer-2"), entitiesByBookmark);
+    }
+
+    @Test
+    void loadObjectsElseFail_whenTypeCannotBeResolved_fails() {
+        assertThrows(RuntimeException.class, ()->
+            objectManager.loadObjectsElseFail(Can.of(unknown)));
+    }
+
+    @Test
+    void loadObjectsElseFail_whenEntityReturnsOtherBookmark_fails() {
+        val entity = mock(ManagedObject.class);
+        when(entity.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(entity.getBookmark()).thenReturn(Optional.of(customer2));
+        doReturn(Can.of(entity)).when(objectManager).loadObjects(Can.of(customer1));
+
+        assertThrows(AssertionError.class, ()->
+            objectManager.loadObjectsElseFail(Can.of(customer1)));
+    }
+
+    @Test
+    void loadObjectsElseFail_whenEntityReturnsEqualBookmark_succeeds() {
+        val entity = mock(ManagedObject.class);
+        when(entity.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(entity.getBookmark()).thenReturn(Optional.of(customer1));
+        doReturn(Can.of(entity)).when(objectManager).loadObjects(Can.of(customer1));
+
+        assertSame(entity, objectManager.loadObjectsElseFail(Can.of(customer1)).getFirstElseFail());
+    }
+
+    @Test
+    void noBookmarks_fetchNothing() {
+        assertTrue(objectManager.loadObjects(Can.empty()).isEmpty());
+        assertTrue(objectManager.loadObjects(null).isEmpty());
+    }
+
+}
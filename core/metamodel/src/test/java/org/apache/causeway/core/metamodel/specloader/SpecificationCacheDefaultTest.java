@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -111,4 +118,44 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    @Test
+    public void computeIfAbsent_whenConcurrent_createsOnlyOnce() throws Exception {
+
+        val threads = 8;
+        val creations = new AtomicInteger();
+        val startGate = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            val futures = new ArrayList<Future<ObjectSpecification>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(()->{
+                    startGate.await();
+                    return specificationCache.computeIfAbsent(Customer.class, __->{
+                        creations.incrementAndGet();
+                        return customerSpec;
+                    });
+                }));
+            }
+            startGate.countDown();
+            for (val future : futures) {
+                assertSame(customerSpec, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(creations.get(), is(1));
+        assertThat(specificationCache.snapshotSpecs().size(), is(1));
+    }
+
+    @Test
+    public void computeIfAbsent_whenRecursive_doesNotDeadlock() {
+
+        val spec = specificationCache.computeIfAbsent(Customer.class, __->
+            specificationCache.computeIfAbsent(Customer.class, ___->customerSpec));
+
+        assertSame(customerSpec, spec);
+        assertThat(specificationCache.snapshotSpecs().size(), is(1));
+    }
+
 }
@@ -197,9 +197,12 @@ private ManagedObject invokeActionInternally(
             });
         });
 
-        // sync DTO with result
-        interactionDtoFactory
-        .updateResult((ActionInvocationDto)priorExecution.getDto(), owningAction, returnedAdapter);
+        // sync DTO with result (if any, not populated when there are no execution subscribers)
+        val actionInvocationDto = (ActionInvocationDto)priorExecution.getDto();
+        if(actionInvocationDto!=null) {
+            interactionDtoFactory
+            .updateResult(actionInvocationDto, owningAction, returnedAdapter);
+        }
 
         // update Command (if required)
         setCommandResultIfEntity(command, returnedAdapter);
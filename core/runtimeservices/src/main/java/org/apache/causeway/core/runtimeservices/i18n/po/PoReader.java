@@ -18,11 +18,15 @@
  */
 package org.apache.causeway.core.runtimeservices.i18n.po;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.services.i18n.LanguageProvider;
@@ -44,8 +48,13 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    /**
+     * Immutable, hence lock-free to read; swapped atomically, when translations for a further locale are read
+     * or when all are re-read.
+     */
+    private final AtomicReference<Map<Locale, TranslationIndex>> translationIndexByLocale =
+            new AtomicReference<>(Collections.emptyMap());
+    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newConcurrentHashMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -65,7 +74,7 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final LanguageProvider languageProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, Mode.READ);
@@ -82,11 +91,24 @@ public PoReader(final TranslationServicePo translationServicePo) {
      * Not API
      */
     void init() {
-        fallback = readUrl(basename + ".po");
+        init(translationServicePo.getPreloadLocales().toList());
+    }
+
+    /**
+     * Reads the fallback translations, then those of given {@code locales} (in parallel),
+     * swapping in the resulting translation index.
+     */
+    private void init(final Collection<Locale> locales) {
+        val fallback = readUrl(basename + ".po");
         if(fallback == null) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
+            this.fallback = Collections.emptyList();
+        } else {
+            this.fallback = fallback;
         }
+        translationIndexByLocale.set(locales.parallelStream()
+                .distinct()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), this::readTranslationIndex)));
     }
 
     @Override
@@ -115,9 +137,12 @@ String translate(final TranslationContext context, final String msgId, final Str
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
         usesFallbackByLocale.clear();
-        init();
+        // re-reads the translations of any locale read so far
+        val locales = _Sets.<Locale>newHashSet();
+        locales.addAll(translationServicePo.getPreloadLocales().toList());
+        locales.addAll(translationIndexByLocale.get().keySet());
+        init(locales);
     }
 
     private String translate(final TranslationContext context, final String msgId, final ContextAndMsgId.Type type) {
@@ -136,18 +161,16 @@ private String translate(final TranslationContext context, final String msgId, f
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final TranslationIndex translationIndex = translationIndexFor(targetLocale);
 
         // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context.getName(), msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
+        final String translation = translationIndex.lookup(context.getName(), msgId);
         if (!_Strings.isNullOrEmpty(translation)) {
             return translation;
         }
 
         // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
+        final String translationNoContext = translationIndex.lookup("", msgId);
         if (!_Strings.isNullOrEmpty(translationNoContext)) {
             return translationNoContext;
         }
@@ -160,29 +183,38 @@ private String translate(final TranslationContext context, final String msgId, f
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
         final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
         if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context.getName(), msgId, type));
         }
 
         return msgId;
     }
 
 
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
-    }
-
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
+    /**
+     * Locales not preloaded are read on first use.
+     */
+    private TranslationIndex translationIndexFor(final Locale locale) {
+        final TranslationIndex translationIndex = translationIndexByLocale.get().get(locale);
+        if(translationIndex != null) {
+            return translationIndex;
         }
+        final TranslationIndex newTranslationIndex = readTranslationIndex(locale);
+        return translationIndexByLocale.updateAndGet(translationIndexByLocaleCurrent->{
+            if(translationIndexByLocaleCurrent.containsKey(locale)) {
+                return translationIndexByLocaleCurrent; // concurrently read by another thread
+            }
+            final Map<Locale, TranslationIndex> translationIndexByLocaleUpdated =
+                    new HashMap<>(translationIndexByLocaleCurrent);
+            translationIndexByLocaleUpdated.put(locale, newTranslationIndex);
+            return Collections.unmodifiableMap(translationIndexByLocaleUpdated);
+        })
+        .get(locale);
+    }
 
-        translationsByKey = _Maps.newHashMap();
+    private TranslationIndex readTranslationIndex(final Locale locale) {
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
+        return TranslationIndex.of(translationsByKey);
     }
 
 
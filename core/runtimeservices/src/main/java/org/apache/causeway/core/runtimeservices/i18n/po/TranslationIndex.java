@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.i18n.po;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import lombok.val;
+
+/**
+ * Immutable index of the translations of a single locale.
+ *
+ * <p>
+ *     Looks up translations in two levels, context &rarr; msgId &rarr; translation, such that no key objects need
+ *     to be allocated per lookup.  (As with {@link ContextAndMsgId}, the {@link ContextAndMsgId.Type} is not
+ *     part of the key.)
+ * </p>
+ */
+final class TranslationIndex {
+
+    private final Map<String, Map<String, String>> translationByMsgIdByContext;
+
+    static TranslationIndex of(final Map<ContextAndMsgId, String> translationsByKey) {
+        val translationByMsgIdByContext = new HashMap<String, Map<String, String>>();
+        translationsByKey.forEach((key, translation)->
+            translationByMsgIdByContext
+                .computeIfAbsent(key.getContext().intern(), __->new HashMap<>())
+                .put(key.getMsgId().intern(), translation.trim()));
+
+        val immutableCopy = new HashMap<String, Map<String, String>>(translationByMsgIdByContext.size());
+        translationByMsgIdByContext.forEach((context, translationByMsgId)->
+            immutableCopy.put(context, Map.copyOf(translationByMsgId)));
+
+        return new TranslationIndex(Map.copyOf(immutableCopy));
+    }
+
+    private TranslationIndex(final Map<String, Map<String, String>> translationByMsgIdByContext) {
+        this.translationByMsgIdByContext = translationByMsgIdByContext;
+    }
+
+    /**
+     * @param context - the context name, or the empty string for no context
+     */
+    @Nullable String lookup(final @Nullable String context, final @Nullable String msgId) {
+        if(context == null
+                || msgId == null) {
+            return null; // immutable maps don't permit null lookups
+        }
+        val translationByMsgId = translationByMsgIdByContext.get(context);
+        return translationByMsgId != null
+                ? translationByMsgId.get(msgId)
+                : null;
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.i18n.po;
 
+import java.util.Locale;
 import java.util.Optional;
 
 import javax.annotation.PostConstruct;
@@ -169,6 +170,14 @@ public void toggleMode() {
         }
     }
 
+    /**
+     * Not API
+     */
+    Can<Locale> getPreloadLocales() {
+        return Can.ofCollection(configuration.getCore().getRuntimeServices().getTranslation().getPo().getPreloadLocales())
+                .map(Locale::forLanguageTag);
+    }
+
     // -- DEPENDENCIES
 
     @Inject private CausewaySystemEnvironment systemEnvironment;
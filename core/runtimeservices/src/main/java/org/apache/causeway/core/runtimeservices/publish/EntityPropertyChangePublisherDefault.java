@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.publish;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
@@ -46,7 +47,6 @@
 import org.apache.causeway.core.security.util.XrayUtil;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 
-import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
@@ -91,29 +91,47 @@ public void publishChangedProperties() {
         val currentUser = userService.currentUserNameElseNobody();
         val currentTransactionId = transactionService.currentTransactionId().orElse(TransactionId.empty());
 
-        val propertyChanges = hasEnlistedEntityPropertyChanges().getPropertyChanges(
-                currentTime,
-                currentUser,
-                currentTransactionId);
+        val enlistedEntityPropertyChanges = hasEnlistedEntityPropertyChanges();
+        val propertyChangeCount = enlistedEntityPropertyChanges.countPropertyChanges();
+        val bulk = causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk();
 
         XrayUtil.SequenceHandle xrayHandle = null;
         try {
             xrayHandle = _Xray.enterEntityPropertyChangePublishing(
                     iaTracker,
-                    propertyChanges,
+                    ()->enlistedEntityPropertyChanges.getPropertyChanges(currentTime, currentUser, currentTransactionId),
                     enabledSubscribers,
-                    () -> getCannotPublishReason(propertyChanges)
+                    () -> getCannotPublishReason(propertyChangeCount)
             );
 
-            if (propertyChanges.size() <= causewayConfiguration.getCore().getRuntimeServices().getEntityPropertyChangePublisher().getBulk().getThreshold()) {
+            // streamed rather than collected up front, as these can be very many
+            val propertyChanges = enlistedEntityPropertyChanges.streamPropertyChanges(
+                    currentTime,
+                    currentUser,
+                    currentTransactionId);
+
+            if (propertyChangeCount <= bulk.getThreshold()) {
                 propertyChanges.forEach(propertyChange -> {
                     for (val subscriber : enabledSubscribers) {
                         subscriber.onChanging(propertyChange);
                     }
                 });
-            } else {
+            } else if (bulk.getChunkSize() <= 0
+                    || propertyChangeCount <= bulk.getChunkSize()) {
+                val allPropertyChanges = propertyChanges.collect(Can.toCan());
                 for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChanges);
+                    subscriber.onChanging(allPropertyChanges);
+                }
+            } else {
+                val chunk = new ArrayList<EntityPropertyChange>(bulk.getChunkSize());
+                propertyChanges.forEach(propertyChange -> {
+                    chunk.add(propertyChange);
+                    if(chunk.size() == bulk.getChunkSize()) {
+                        publishChunk(chunk);
+                    }
+                });
+                if(!chunk.isEmpty()) {
+                    publishChunk(chunk);
                 }
             }
         } finally {
@@ -121,14 +139,21 @@ public void publishChangedProperties() {
         }
     }
 
-
     // -- HELPER
 
+    private void publishChunk(final List<EntityPropertyChange> chunk) {
+        val propertyChanges = Can.ofCollection(chunk);
+        chunk.clear();
+        for (val subscriber : enabledSubscribers) {
+            subscriber.onChanging(propertyChanges);
+        }
+    }
+
     // x-ray support
-    private @Nullable String getCannotPublishReason(final @NonNull Can<EntityPropertyChange> payload) {
+    private @Nullable String getCannotPublishReason(final int propertyChangeCount) {
         return enabledSubscribers.isEmpty()
                 ? "no subscribers"
-                : payload.isEmpty()
+                : propertyChangeCount == 0
                         ? "no changes had been enlisted"
                         : null;
     }
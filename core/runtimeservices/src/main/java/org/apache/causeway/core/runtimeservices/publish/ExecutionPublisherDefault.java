@@ -83,6 +83,11 @@ public void publishPropertyEdit(final Execution<?,?> execution) {
         notifySubscribers(execution);
     }
 
+    @Override
+    public boolean isAnySubscriberEnabled() {
+        return enabledSubscribers.isNotEmpty();
+    }
+
     @Override
     public <T> T withPublishingSuppressed(final Supplier<T> block) {
         try {
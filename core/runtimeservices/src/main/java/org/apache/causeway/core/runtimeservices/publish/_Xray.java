@@ -202,7 +202,7 @@ public static SequenceHandle enterEntityChangesPublishing(
 
     public static SequenceHandle enterEntityPropertyChangePublishing(
             final @NonNull InteractionLayerTracker iaTracker,
-            final @NonNull Can<EntityPropertyChange> payload,
+            final @NonNull Supplier<Can<EntityPropertyChange>> payloadSupplier,
             final @NonNull Can<EntityPropertyChangeSubscriber> enabledSubscribers,
             final @NonNull Supplier<String> cannotPublishReasonSupplier) {
 
@@ -215,7 +215,7 @@ public static SequenceHandle enterEntityPropertyChangePublishing(
         val enteringLabel = canPublish
                 ? String.format("publishing entity-property-changes to %d subscriber(s):\n%s",
                         enabledSubscribers.size(),
-                        toText(payload))
+                        toText(payloadSupplier.get()))
                 : String.format("not publishing entity-property-changes:\n%s", cannotPublishReason);
 
         val handleIfAny = XrayUtil.createSequenceHandle(iaTracker, "epc-publisher");
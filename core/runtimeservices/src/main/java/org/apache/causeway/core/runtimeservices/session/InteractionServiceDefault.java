@@ -19,9 +19,10 @@
 package org.apache.causeway.core.runtimeservices.session;
 
 import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -90,7 +91,10 @@
     // TODO: reading the javadoc for TransactionSynchronizationManager and looking at the implementations
     //  of TransactionSynchronization (in particular SpringSessionSynchronization), I suspect that this
     //  ThreadLocal would be considered bad practice and instead should be managed using the TransactionSynchronization mechanism.
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    //
+    // The stack is only ever accessed by its owning thread, hence an (unsynchronized) ArrayDeque rather than a
+    // (synchronized) Stack, which would pin virtual threads to their carrier. Top of stack is the deque's head.
+    final ThreadLocal<Deque<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(ArrayDeque::new);
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -220,10 +224,10 @@ public InteractionLayer openInteraction(
 
     private CausewayInteraction getOrCreateCausewayInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
+        final Deque<InteractionLayer> interactionLayers = interactionLayerStack.get();
         return interactionLayers.isEmpty()
     			? new CausewayInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.getLast().getInteraction());
     }
 
 
@@ -243,7 +247,7 @@ public Optional<InteractionLayer> currentInteractionLayer() {
     	val stack = interactionLayerStack.get();
     	return stack.isEmpty()
     	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+                : Optional.of(stack.peek());
     }
 
     @Override
@@ -350,7 +354,7 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        val interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.get(0).getInteraction());
+        val interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.getLast().getInteraction());
         transactionServiceSpring.requestRollback(interaction);
     }
 
@@ -18,7 +18,7 @@
  */
 package org.apache.causeway.core.runtimeservices.session;
 
-import java.util.Stack;
+import java.util.Deque;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
 import org.apache.causeway.commons.internal.debug._XrayEvent;
@@ -32,7 +32,7 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final Deque<InteractionLayer> afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -89,7 +89,7 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final Deque<InteractionLayer> beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -81,6 +81,7 @@
 import org.apache.causeway.commons.collections.ImmutableEnumSet;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.concurrent._ConcurrentContext;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryService;
 import org.apache.causeway.commons.internal.reflection._GenericResolver;
@@ -112,11 +113,13 @@
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @Named(WrapperFactoryDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class WrapperFactoryDefault
 implements WrapperFactory, HasMetaModelContext {
 
@@ -684,6 +687,14 @@ private <R> R updateDomainObject(final AsyncCallable<R> asyncCallable) {
     private final static int MIN_POOL_SIZE = 2; // at least 2
     private final static int MAX_POOL_SIZE = 4; // max 4
     private ExecutorService newCommonExecutorService() {
+        if(getConfiguration().getCore().getRuntime().isVirtualThreads()) {
+            val virtualThreadExecutor = _ConcurrentContext.newVirtualThreadPerTaskExecutor();
+            if(virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            log.warn("virtual threads are not supported by this Java runtime, "
+                    + "falling back to a fixed thread pool for async execution");
+        }
         final int poolSize = Math.min(
                 MAX_POOL_SIZE,
                 Math.max(
@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -235,4 +236,33 @@ protected List<String> readPo(final Locale locale) {
         assertThat(translated, is(equalTo("Something to translate")));
     }
 
+    @Test
+    public void translationsOfLocaleAreReadOnlyOnce() throws Exception {
+
+        // given
+        final TranslationContext context = TranslationContext.named("someContext");
+        final AtomicInteger readCount = new AtomicInteger();
+
+        poReader = new PoReader(mockTranslationServicePo) {
+            @Override
+            protected List<String> readPo(final Locale locale) {
+                readCount.incrementAndGet();
+                final List<String> lines = _Lists.newArrayList();
+                lines.add(String.format("#: %s", context.getName()));
+                lines.add("msgid \"Work of art\"");
+                lines.add("msgstr \" Objet d'art \"");
+                return lines;
+            }
+        };
+
+        // when
+        final String translated = poReader.translate(context, "Work of art");
+        final String translatedAgain = poReader.translate(context, "Work of art");
+
+        // then
+        assertThat(translated, is(equalTo("Objet d'art")));
+        assertThat(translatedAgain, is(equalTo("Objet d'art")));
+        assertThat(readCount.get(), is(1));
+    }
+
 }
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.transaction.changetracking;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.lang.Nullable;
@@ -81,5 +82,36 @@ public interface EntityChangeTracker extends DisposableBean {
      */
     void incrementLoaded(ManagedObject entity);
 
+    /**
+     * Auto-flush support: for the {@link org.apache.causeway.applib.services.repository.RepositoryService} to
+     * recognize an entity that is about to be persisted or removed, as object stores might only report these
+     * when flushed.
+     */
+    default void recognizeChanging(final ManagedObject entity) {}
+
+    /**
+     * Auto-flush support: whether the type of any entity enlisted or recognized as changed so far within this
+     * transaction matches given {@code predicate}, regardless of whether enabled for entity change publishing.
+     *
+     * <p>
+     * Implementations not tracking changed entity types must return {@code true}, such that auto-flush is never skipped.
+     * </p>
+     */
+    default boolean hasChangedEntityTypeMatching(final Predicate<Class<?>> predicate) {
+        return true;
+    }
+
+    /**
+     * Not strictly part of the concern of entity tracking, but allows the default implementation to also implement
+     * the {@link org.apache.causeway.applib.services.metrics.MetricsService}.
+     */
+    default void incrementFlushesPerformed() {}
+
+    /**
+     * Not strictly part of the concern of entity tracking, but allows the default implementation to also implement
+     * the {@link org.apache.causeway.applib.services.metrics.MetricsService}.
+     */
+    default void incrementFlushesSkipped() {}
+
 }
 
@@ -32,8 +32,10 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_openResultObject;
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
+import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandLogWriteBehind;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
 
 @Configuration
@@ -54,9 +56,11 @@
 
         // @Service's
         CommandSubscriberForCommandLog.class,
+        CommandLogWriteBehind.class,
         CommandLogEntry.TableColumnOrderDefault.class,
 
         BackgroundCommandsJobControl.class,
+        BackgroundCommandsExecutor.class,
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.dom;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -131,6 +132,27 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * Marks the {@link CommandLogEntry command} with given {@code interactionId} as started,
+     * unless already started (eg. by another node executing background commands).
+     *
+     * <p>
+     *     Implementations are expected to do so using a single conditional update, such that
+     *     of concurrent callers only one succeeds; the default implementation reads then writes.
+     * </p>
+     *
+     * @return whether it was this call that marked the command as started
+     */
+    default boolean markStartedIfNotYetStarted(final UUID interactionId, final Timestamp startedAt) {
+        return findByInteractionId(interactionId)
+                .filter(commandLogEntry->commandLogEntry.getStartedAt() == null)
+                .map(commandLogEntry->{
+                    commandLogEntry.setStartedAt(startedAt);
+                    return true;
+                })
+                .orElse(false);
+    }
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
 
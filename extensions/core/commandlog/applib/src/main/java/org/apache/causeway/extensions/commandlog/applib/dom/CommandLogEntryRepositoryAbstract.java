@@ -298,6 +298,19 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public boolean markStartedIfNotYetStarted(final UUID interactionId, final Timestamp startedAt) {
+        return updateStartedAtIfNull(interactionId, startedAt) == 1;
+    }
+
+    /**
+     * Sets the {@code startedAt} of the entry with given {@code interactionId},
+     * provided it is not yet set, using a single (bulk) update.
+     *
+     * @return the number of entries updated, that is either {@code 0} or {@code 1}
+     */
+    protected abstract int updateStartedAtIfNull(final UUID interactionId, final Timestamp startedAt);
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Provides the worker threads for {@link RunBackgroundCommandsJob}, when configured to execute
+ * background commands in parallel.
+ * <p>
+ * As a new job instance is created for each run, the (bounded) thread pool is held by this service instead,
+ * such that it outlives the individual runs; idle worker threads are discarded after a minute.
+ *
+ * @see CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getParallelism()
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(BackgroundCommandsExecutor.LOGICAL_TYPE_NAME)
+@Log4j2
+public class BackgroundCommandsExecutor {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogApplib.NAMESPACE + ".BackgroundCommandsExecutor";
+
+    private final ThreadPoolExecutor threadPool;
+
+    @Inject
+    public BackgroundCommandsExecutor(final CausewayConfiguration causewayConfiguration) {
+        final int parallelism = Math.max(1,
+                causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getParallelism());
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.threadPool = new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                runnable->{
+                    final Thread thread = new Thread(runnable,
+                            "causeway-background-commands-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.threadPool.allowCoreThreadTimeOut(true);
+    }
+
+    Future<?> submit(final Runnable task) {
+        return threadPool.submit(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.debug("shutting down {}", this);
+        threadPool.shutdownNow();
+    }
+
+}
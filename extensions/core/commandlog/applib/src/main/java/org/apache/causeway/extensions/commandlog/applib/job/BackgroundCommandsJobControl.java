@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.Programmatic;
@@ -67,4 +69,78 @@ public boolean isRunning() {
         return state == State.RUNNING;
     }
 
+    // -- METRICS
+
+    private final LongAdder commandsSucceeded = new LongAdder();
+    private final LongAdder commandsFailed = new LongAdder();
+    private final LongAdder deadlockRetries = new LongAdder();
+
+    /**
+     * The number of commands executed by the most recent run of the {@link RunBackgroundCommandsJob}.
+     */
+    @Getter
+    private volatile int lastRunCommandCount;
+
+    /**
+     * How long the most recent run of the {@link RunBackgroundCommandsJob} took (in milliseconds).
+     */
+    @Getter
+    private volatile long lastRunDurationMillis;
+
+    /**
+     * Total number of background commands executed successfully (since startup).
+     */
+    @Programmatic
+    public long getCommandsSucceeded() {
+        return commandsSucceeded.sum();
+    }
+
+    /**
+     * Total number of background commands that failed (since startup).
+     */
+    @Programmatic
+    public long getCommandsFailed() {
+        return commandsFailed.sum();
+    }
+
+    /**
+     * Total number of retries due to deadlocks (since startup).
+     */
+    @Programmatic
+    public long getDeadlockRetries() {
+        return deadlockRetries.sum();
+    }
+
+    /**
+     * Commands executed per second by the most recent run of the {@link RunBackgroundCommandsJob}.
+     */
+    @Programmatic
+    public double getLastRunThroughput() {
+        final long durationMillis = lastRunDurationMillis;
+        return durationMillis > 0
+                ? 1000d * lastRunCommandCount / durationMillis
+                : 0d;
+    }
+
+    void recordSuccess() {
+        commandsSucceeded.increment();
+    }
+
+    void recordFailure() {
+        commandsFailed.increment();
+    }
+
+    void recordDeadlockRetry() {
+        deadlockRetries.increment();
+    }
+
+    void recordRun(final int commandCount, final long durationMillis) {
+        this.lastRunCommandCount = commandCount;
+        this.lastRunDurationMillis = durationMillis;
+        if(commandCount > 0) {
+            log.info("executed {} background commands in {} ms ({} per second)",
+                    commandCount, durationMillis, String.format("%.1f", getLastRunThroughput()));
+        }
+    }
+
 }
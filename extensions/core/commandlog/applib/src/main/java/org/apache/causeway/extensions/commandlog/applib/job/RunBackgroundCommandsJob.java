@@ -19,8 +19,10 @@
 package org.apache.causeway.extensions.commandlog.applib.job;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -37,6 +39,7 @@
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
@@ -44,9 +47,12 @@
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
+import lombok.SneakyThrows;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -70,15 +76,14 @@
 @Log4j2
 public class RunBackgroundCommandsJob implements Job {
 
-    final static int RETRY_COUNT = 3;
-    final static long RETRY_INTERVAL_MILLIS = 1000;
-
     @Inject InteractionService interactionService;
     @Inject TransactionService transactionService;
     @Inject ClockService clockService;
     @Inject CommandLogEntryRepository commandLogEntryRepository;
     @Inject CommandExecutorService commandExecutorService;
     @Inject BackgroundCommandsJobControl backgroundCommandsJobControl;
+    @Inject BackgroundCommandsExecutor backgroundCommandsExecutor;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 
     @Override
@@ -97,12 +102,58 @@ public void execute(final JobExecutionContext quartzContext) {
 
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
-            for (val commandDto : commandDtos) {
-                executeCommandWithinOwnTransaction(commandDto, interactionContext);
+            val stopWatch = _Timing.now();
+            val parallelism = config().getParallelism();
+            if(parallelism > 1
+                    && commandDtos.size() > 1) {
+                executeInParallel(commandDtos, parallelism, interactionContext);
+            } else {
+                executeSequentially(commandDtos, interactionContext);
             }
+            stopWatch.stop();
+            backgroundCommandsJobControl.recordRun(commandDtos.size(), stopWatch.getMillis());
         });
     }
 
+    private void executeSequentially(
+            final List<CommandDto> commandDtos,
+            final InteractionContext interactionContext) {
+        for (val commandDto : commandDtos) {
+            executeCommandWithinOwnTransaction(commandDto, interactionContext);
+        }
+    }
+
+    /**
+     * Partitions the commands by their (first) target, such that commands targeting the same object
+     * are executed sequentially in their original order, while the partitions are executed concurrently.
+     */
+    @SneakyThrows
+    private void executeInParallel(
+            final List<CommandDto> commandDtos,
+            final int parallelism,
+            final InteractionContext interactionContext) {
+
+        final Map<Integer, List<CommandDto>> partitions = commandDtos.stream()
+                .collect(Collectors.groupingBy(
+                        commandDto->Math.floorMod(partitionKeyOf(commandDto).hashCode(), parallelism),
+                        Collectors.toList()));
+
+        val futures = partitions.values().stream()
+                .map(partition->backgroundCommandsExecutor.submit(()->executeSequentially(partition, interactionContext)))
+                .collect(Collectors.toList());
+        for (val future : futures) {
+            future.get();
+        }
+    }
+
+    private static String partitionKeyOf(final CommandDto commandDto) {
+        val targets = commandDto.getTargets();
+        return targets!=null
+                && !targets.getOid().isEmpty()
+                ? Bookmark.forOidDto(targets.getOid().get(0)).stringify()
+                : commandDto.getInteractionId();
+    }
+
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
@@ -122,31 +173,60 @@ private void executeCommandWithinOwnTransaction(
             final CommandDto commandDto,
             final InteractionContext interactionContext
     ) {
-        int retryCount = RETRY_COUNT;
-        while(retryCount > 0) {
+        val maxAttempts = Math.max(1, config().getMaxAttempts());
+        for(int attempt = 1; ; attempt++) {
             Try<?> result = interactionService.runAndCatch(interactionContext, () -> {
                 executeCommandWithinOwnTransactionElseFail(commandDto);
             });
-            if (isEncounteredDeadlock(result)) {
-                retryCount--;
+            if (isEncounteredDeadlock(result)
+                    && attempt < maxAttempts) {
+                backgroundCommandsJobControl.recordDeadlockRetry();
                 log.debug("Deadlock occurred, retrying command: " + CommandDtoUtils.dtoMapper().toString(commandDto));
-                sleep(RETRY_INTERVAL_MILLIS);
+                sleep(backoffMillis(attempt));
             } else {
-                retryCount=0;   // ie break
-                result.ifFailure(throwable -> {
+                result
+                .ifSuccess(success -> backgroundCommandsJobControl.recordSuccess())
+                .ifFailure(throwable -> {
+                    backgroundCommandsJobControl.recordFailure();
                     logAndCaptureFailure(throwable, commandDto, interactionContext);
                 });
+                return;
             }
         }
     }
 
+    /**
+     * Exponential backoff with (full) jitter, such that concurrently deadlocked workers
+     * do not retry in lock-step.
+     */
+    private long backoffMillis(final int attempt) {
+        val initialMillis = config().getInitialBackoff().toMillis();
+        val maxMillis = config().getMaxBackoff().toMillis();
+        val exponentialMillis = Math.min(maxMillis, initialMillis << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(exponentialMillis + 1);
+    }
+
+    private CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+    }
+
     private void executeCommandWithinOwnTransactionElseFail(CommandDto commandDto) {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val interactionId = UUID.fromString(commandDto.getInteractionId());
+
+                // claim the command, unless already started meanwhile (eg. by another node);
+                // a conditional update, such that of concurrent workers only one gets to execute it
+                if(!commandLogEntryRepository.markStartedIfNotYetStarted(
+                        interactionId, clockService.getClock().nowAsJavaSqlTimestamp())) {
+                    return;
+                }
+
                 // look up the CommandLogEntry again because we are within a new transaction.
-                val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(interactionId);
 
                 // finally, we execute
-                commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                commandLogEntryIfAny
+                .ifPresent(commandLogEntry ->
                 {
                     commandExecutorService.executeCommand(
                             CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto);
@@ -0,0 +1,204 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.subscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.concurrent._WriteBehindQueue;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Supports the (optional) write-behind mode of {@link CommandSubscriberForCommandLog}.
+ * <p>
+ * Commands are buffered in memory keyed by their interaction id, and once completed are queued
+ * (bounded) for a dedicated writer thread, that writes them in batches, each within its own transaction.
+ *
+ * @see CausewayConfiguration.Extensions.CommandLog.WriteBehind
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CommandLogWriteBehind.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class CommandLogWriteBehind {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogApplib.NAMESPACE + ".CommandLogWriteBehind";
+
+    private final CommandLogEntryRepository commandLogEntryRepository;
+    private final RepositoryService repositoryService;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final CausewayConfiguration.Extensions.CommandLog.WriteBehind config;
+
+    /**
+     * Commands ready or started, but not yet completed; only ever written on shutdown.
+     */
+    private final Map<UUID, Command> inFlight = _Maps.newConcurrentHashMap();
+
+    /**
+     * Completed commands, waiting to be written.
+     */
+    private _WriteBehindQueue<Command> completed;
+
+    @Inject
+    public CommandLogWriteBehind(
+            final CommandLogEntryRepository commandLogEntryRepository,
+            final RepositoryService repositoryService,
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final CausewayConfiguration causewayConfiguration) {
+        this.commandLogEntryRepository = commandLogEntryRepository;
+        this.repositoryService = repositoryService;
+        this.interactionService = interactionService;
+        this.transactionService = transactionService;
+        this.config = causewayConfiguration.getExtensions().getCommandLog().getWriteBehind();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!isEnabled()) {
+            return;
+        }
+        completed = _WriteBehindQueue.start("causeway-commandlog-writer",
+                config.getQueueCapacity(), config.getBatchSize(), config.getFlushInterval(),
+                this::writeBatch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(completed==null) {
+            return;
+        }
+        // from now on, any completed commands are written synchronously
+        val notWritten = completed.shutdown(config.getShutdownTimeout());
+
+        if(!notWritten.isEmpty()) {
+            val lost = new ArrayList<Command>(notWritten);
+            lost.addAll(inFlight.values());
+            log.warn("shutdown timeout exceeded, {} command log entries not written: {}",
+                    lost.size(), interactionIdsOf(lost));
+            return;
+        }
+
+        // record commands still in flight, with their state as of now (ie. not completed)
+        if(!inFlight.isEmpty()) {
+            val stillInFlight = new ArrayList<Command>(inFlight.values());
+            inFlight.clear();
+            writeBatch(stillInFlight);
+        }
+    }
+
+    /**
+     * Records given (ready or started) command, for it to be written on shutdown, should it not complete.
+     * <p>
+     * Bounded by the {@link CausewayConfiguration.Extensions.CommandLog.WriteBehind#getQueueCapacity() queue capacity};
+     * commands beyond are not recorded (but logged), hence only written once completed.
+     */
+    void onInFlight(final Command command) {
+        if(inFlight.size() >= config.getQueueCapacity()
+                && !inFlight.containsKey(command.getInteractionId())) {
+            log.warn("write-behind in-flight capacity ({}) reached, command {} is not written on shutdown, "
+                    + "should it not complete by then",
+                    config.getQueueCapacity(), command.getInteractionId());
+            return;
+        }
+        inFlight.put(command.getInteractionId(), command);
+    }
+
+    /**
+     * Queues given completed command for writing, blocking for up to the
+     * {@link CausewayConfiguration.Extensions.CommandLog.WriteBehind#getEnqueueTimeout() enqueue timeout}
+     * if the queue is full.
+     *
+     * @return whether queued; if not (queue full or shutting down),
+     *      the caller is expected to {@link #writeSynchronously(Command)} instead
+     */
+    boolean offerCompleted(final Command command) {
+        inFlight.remove(command.getInteractionId());
+        return completed.offer(command, config.getEnqueueTimeout());
+    }
+
+    /**
+     * Coalesces all lifecycle transitions of given command into a single command log entry,
+     * within the current transaction.
+     */
+    void writeSynchronously(final Command command) {
+        commandLogEntryRepository.findByInteractionId(command.getInteractionId())
+            .ifPresentOrElse(
+                    // eg. already persisted by the BackgroundService
+                    commandLogEntry->commandLogEntry.sync(command),
+                    ()->commandLogEntryRepository.createEntryAndPersist(
+                            command, command.getParentInteractionId(), ExecuteIn.FOREGROUND));
+    }
+
+    // -- HELPER
+
+    private void writeBatch(final List<Command> batch) {
+        interactionService.runAnonymousAndCatch(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                // defers the flush (and hence the JDBC batch) until all entries of this batch are written
+                repositoryService.execInBulk(()->{
+                    batch.forEach(this::writeSynchronously);
+                    return null;
+                }))
+            .ifFailureFail())
+        .ifFailure(failure->
+            log.error("failed to write {} command log entries: {}",
+                    batch.size(), interactionIdsOf(batch), failure));
+    }
+
+    private static String interactionIdsOf(final List<Command> commands) {
+        return commands.stream()
+                .map(Command::getInteractionId)
+                .map(UUID::toString)
+                .collect(Collectors.joining(", "));
+    }
+
+}
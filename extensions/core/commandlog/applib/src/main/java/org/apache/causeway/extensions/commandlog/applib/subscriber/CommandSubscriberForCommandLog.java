@@ -46,6 +46,11 @@
  * Implementation of {@link CommandSubscriber} responsible for persisting the {@link Command} as a
  * {@link CommandLogEntry}.
  *
+ * <p>
+ *     If write-behind is enabled, then the entry is instead written asynchronously by the
+ *     {@link CommandLogWriteBehind}, once the command has completed.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -62,6 +67,7 @@ public class CommandSubscriberForCommandLog implements CommandSubscriber {
     final RepositoryService repositoryService;
     final CausewayConfiguration causewayConfiguration;
     final ClockService clockService;
+    final CommandLogWriteBehind commandLogWriteBehind;
 
     @Override
     public boolean isEnabled() {
@@ -75,6 +81,11 @@ public void onReady(final Command command) {
             return;
         }
 
+        if(commandLogWriteBehind.isEnabled()) {
+            commandLogWriteBehind.onInFlight(command);
+            return;
+        }
+
         val existingCommandLogEntryIfAny =
                 commandLogEntryRepository.findByInteractionId(command.getInteractionId());
         if(existingCommandLogEntryIfAny.isPresent()) {
@@ -116,6 +127,11 @@ public void onStarted(final Command command) {
             return;
         }
 
+        if(commandLogWriteBehind.isEnabled()) {
+            commandLogWriteBehind.onInFlight(command);
+            return;
+        }
+
         commandLogEntryRepository.findByInteractionId(command.getInteractionId())
             .ifPresent(commandLogEntry -> {
                 commandLogEntry.sync(command);
@@ -129,6 +145,14 @@ public void onCompleted(final Command command) {
             return;
         }
 
+        if(commandLogWriteBehind.isEnabled()) {
+            if(!commandLogWriteBehind.offerCompleted(command)) {
+                // backpressure: queue full (or shutting down), so write within the user's transaction instead
+                commandLogWriteBehind.writeSynchronously(command);
+            }
+            return;
+        }
+
         commandLogEntryRepository.findByInteractionId(command.getInteractionId())
             .ifPresent(commandLogEntry -> {
                 commandLogEntry.sync(command);
@@ -36,10 +36,12 @@
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -216,6 +218,87 @@ void using_background_service() {
 
     }
 
+    @SneakyThrows
+    @Test
+    void background_command_is_claimed_only_once() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            backgroundService.execute(counter).bumpUsingDeclaredAction();
+        }).ifFailureFail();
+
+        val interactionId = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+            commandLogEntryRepository.findBackgroundAndNotYetStarted().get(0).getInteractionId()
+        ).valueAsNonNullElseFail();
+
+        // when claimed (eg. by another node)
+        val now = clockService.getClock().nowAsJavaSqlTimestamp();
+        val claimed = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+            commandLogEntryRepository.markStartedIfNotYetStarted(interactionId, now)
+        ).valueAsNonNullElseFail();
+        val claimedAgain = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+            commandLogEntryRepository.markStartedIfNotYetStarted(interactionId, now)
+        ).valueAsNonNullElseFail();
+
+        // then
+        assertThat(claimed).isTrue();
+        assertThat(claimedAgain).isFalse();
+
+        // and when (simulate quartz running in the background)
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then not executed (again)
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isNull();
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+        }).ifFailureFail();
+    }
+
+    @SneakyThrows
+    @Test
+    void using_background_service_executing_in_parallel() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        val runBackgroundCommandsConfig = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        val parallelismOrig = runBackgroundCommandsConfig.getParallelism();
+        runBackgroundCommandsConfig.setParallelism(2);
+
+        try {
+            // when
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                for (int i = 0; i < 3; i++) {
+                    backgroundService.execute(counter).bumpUsingDeclaredAction();
+                }
+            }).ifFailureFail();
+
+            // (simulate quartz running in the background, twice, reusing the same worker threads)
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+
+        } finally {
+            runBackgroundCommandsConfig.setParallelism(parallelismOrig);
+        }
+
+        // then all executed exactly once (same target, hence sequentially)
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isEqualTo(3L);
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).isEmpty();
+            assertThat(commandLogEntryRepository.findAll())
+                    .filteredOn(x -> x.getExecuteIn() == ExecuteIn.BACKGROUND)
+                    .hasSize(3)
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull());
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -232,5 +315,7 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
     @Inject BookmarkService bookmarkService;
     @Inject CounterRepository counterRepository;
+    @Inject ClockService clockService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
@@ -18,14 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.datanucleus.PropertyNames;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +50,26 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected int updateStartedAtIfNull(final UUID interactionId, final Timestamp startedAt) {
+        val query = jdoSupportService.getPersistenceManager()
+                .newQuery("UPDATE " + CommandLogEntry.FQCN + " "
+                        + "   SET startedAt = :startedAt "
+                        + " WHERE interactionId == :interactionId "
+                        + "    && startedAt == null");
+        // DN only accepts JDOQL bulk updates (as opposed to just SELECT) when explicitly allowed
+        query.addExtension(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL, "true");
+        return ((Number) query.executeWithMap(
+                Map.of("startedAt", startedAt, "interactionId", interactionId)))
+                .intValue();
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,6 +30,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +45,22 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Override
+    protected int updateStartedAtIfNull(final UUID interactionId, final Timestamp startedAt) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createQuery("UPDATE CommandLogEntry cl "
+                        + "   SET cl.startedAt = :startedAt "
+                        + " WHERE cl.pk.interactionId = :interactionId "
+                        + "   AND cl.startedAt IS NULL")
+                .setParameter("startedAt", startedAt)
+                .setParameter("interactionId", interactionId)
+                .executeUpdate();
+    }
+
 }
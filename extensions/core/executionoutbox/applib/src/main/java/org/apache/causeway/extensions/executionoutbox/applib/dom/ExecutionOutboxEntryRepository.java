@@ -19,11 +19,15 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
@@ -57,6 +61,18 @@ public NotFoundException(final UUID interactionId) {
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns up to {@code limit} entries, in the same order as {@link #findOldest()}, that come after the entry
+     * identified by the provided {@code interactionId} and {@code sequence}.
+     *
+     * <p>
+     *     Intended for consumers that page through the outbox without deleting as they go.  If no
+     *     {@code interactionId} is provided, or if that entry no longer exists (eg because it has since been deleted),
+     *     then the oldest entries are returned.
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findOldestAfter(final @Nullable UUID interactionId, final int sequence, final int limit);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -79,6 +95,16 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes all entries identified by the provided interaction ids and sequences, returning the number deleted.
+     *
+     * <p>
+     *     Unlike {@link #deleteByInteractionIdAndSequence(UUID, int)}, the entries are not first loaded; instead they
+     *     are removed using bulk delete statements, each covering a bounded number of entries.
+     * </p>
+     */
+    int deleteAllByInteractionIdAndSequence(final Collection<? extends HasInteractionIdAndSequence> interactionIdsAndSequences);
+
     /**
      * for testing purposes only
      */
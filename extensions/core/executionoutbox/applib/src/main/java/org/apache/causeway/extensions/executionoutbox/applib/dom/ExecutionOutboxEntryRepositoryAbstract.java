@@ -19,15 +19,24 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
@@ -41,6 +50,7 @@
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -106,14 +116,54 @@ public Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID
     }
 
     public List<ExecutionOutboxEntry> findOldest() {
+        return findOldest(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending());
+    }
+
+    public List<ExecutionOutboxEntry> findOldestAfter(final @Nullable UUID interactionId, final int sequence, final int limit) {
+        val cursorIfAny = interactionId != null
+                ? findByInteractionIdAndSequence(interactionId, sequence)
+                : Optional.<ExecutionOutboxEntry>empty();
+        if(!cursorIfAny.isPresent()) {
+            return findOldest(limit);
+        }
+        val cursor = cursorIfAny.get();
+
+        // any entries sharing the cursor's timestamp are filtered in memory, rather than comparing UUIDs in the query
+        val entries = new ArrayList<ExecutionOutboxEntry>();
+        repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_AT_TIMESTAMP)
+                        .withParameter("timestamp", cursor.getTimestamp()))
+                .stream()
+                .filter(entry -> isAfter(entry, cursor))
+                .limit(limit)
+                .forEach(entries::add);
+        if(entries.size() < limit) {
+            entries.addAll(repositoryService().allMatches(
+                    Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_AFTER_TIMESTAMP)
+                            .withParameter("timestamp", cursor.getTimestamp())
+                            .withLimit(limit - entries.size())));
+        }
+        return entries;
+    }
+
+    private List<ExecutionOutboxEntry> findOldest(final int limit) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
                 Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_OLDEST)
-                        .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending())
+                        .withLimit(limit)
                 )
         );
     }
 
+    /**
+     * Within the same timestamp, entries are ordered by interactionId ascending then by sequence descending.
+     */
+    private static boolean isAfter(final ExecutionOutboxEntry entry, final ExecutionOutboxEntry cursor) {
+        val comparison = entry.getInteractionId().toString().compareTo(cursor.getInteractionId().toString());
+        return comparison > 0
+                || comparison == 0 && entry.getSequence() < cursor.getSequence();
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -172,6 +222,51 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    @Programmatic
+    public int deleteAllByInteractionIdAndSequence(final Collection<? extends HasInteractionIdAndSequence> interactionIdsAndSequences) {
+        if(interactionIdsAndSequences.isEmpty()) {
+            return 0;
+        }
+        val sequencesByInteractionId = interactionIdsAndSequences.stream()
+                .collect(Collectors.groupingBy(
+                        HasInteractionIdAndSequence::getInteractionId,
+                        LinkedHashMap::new,
+                        Collectors.mapping(HasInteractionIdAndSequence::getSequence, Collectors.toCollection(TreeSet::new))));
+
+        // chunked, to bound the size of each bulk delete statement
+        int deleted = 0;
+        val chunk = new LinkedHashMap<UUID, List<Integer>>();
+        int chunkSize = 0;
+        for (val entry : sequencesByInteractionId.entrySet()) {
+            for (val sequence : entry.getValue()) {
+                chunk.computeIfAbsent(entry.getKey(), __ -> new ArrayList<>()).add(sequence);
+                if(++chunkSize == DELETE_IN_BULK_CHUNK_SIZE) {
+                    deleted += deleteInBulk(chunk);
+                    chunk.clear();
+                    chunkSize = 0;
+                }
+            }
+        }
+        if(chunkSize > 0) {
+            deleted += deleteInBulk(chunk);
+        }
+        return deleted;
+    }
+
+    /**
+     * Maximum number of entries deleted by a single call to {@link #deleteInBulk(Map)}.
+     */
+    protected static final int DELETE_IN_BULK_CHUNK_SIZE = 100;
+
+    /**
+     * Deletes the entries with the given sequences of each interaction id, using a single bulk delete statement.
+     * <p>
+     * Called with (in total) at most {@link #DELETE_IN_BULK_CHUNK_SIZE} sequences.
+     *
+     * @return the number of entries deleted
+     */
+    protected abstract int deleteInBulk(final Map<UUID, ? extends Collection<Integer>> sequencesByInteractionId);
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -0,0 +1,92 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.restapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Compact alternative to the {@link org.apache.causeway.schema.ixn.v2.InteractionsDto} XML representation of
+ * {@link OutboxEvents}, streamed as <a href="https://jsonlines.org">JSON lines</a>: one JSON object per
+ * {@link ExecutionOutboxEntry outbox entry}, each terminated by a newline.
+ *
+ * <p>
+ *     The <i>outbox client</i> obtains this by calling {@link OutboxRestApi#pending()} or
+ *     {@link OutboxRestApi#pendingAfter(String, Integer, Integer)} with an HTTP <code>Accept</code> header of
+ *     <code>application/json;profile=urn:org.restfulobjects:repr-types/action-result;x-ro-domain-type=org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxEventsJsonLines</code>.
+ * </p>
+ *
+ * <p>
+ *     Each line holds the key fields of the entry, along with its <code>interactionDto</code> serialized as XML.
+ *     A consumer can therefore track its position (and delete what it has processed) without unmarshalling
+ *     every {@link org.apache.causeway.schema.ixn.v2.InteractionDto}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ *
+ * @see org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents
+ */
+@RequiredArgsConstructor
+public class OutboxEventsJsonLines implements StreamingOutput {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .setRootValueSeparator(null); // each line is terminated explicitly instead
+
+    private final List<? extends ExecutionOutboxEntry> executions;
+
+    @Override
+    public void write(final OutputStream output) throws IOException {
+        try(val generator = JSON_FACTORY.createGenerator(output)) {
+            for (val execution : executions) {
+                writeLine(generator, execution);
+            }
+        }
+    }
+
+    private static void writeLine(final JsonGenerator generator, final ExecutionOutboxEntry execution) throws IOException {
+        val target = execution.getTarget();
+        val interactionDto = execution.getInteractionDto();
+
+        generator.writeStartObject();
+        generator.writeStringField("interactionId", String.valueOf(execution.getInteractionId()));
+        generator.writeNumberField("sequence", execution.getSequence());
+        generator.writeStringField("executionType", execution.getExecutionType() != null ? execution.getExecutionType().name() : null);
+        generator.writeNumberField("timestamp", execution.getTimestamp() != null ? execution.getTimestamp().getTime() : 0L);
+        generator.writeStringField("username", execution.getUsername());
+        generator.writeStringField("target", target != null ? target.stringify() : null);
+        generator.writeStringField("logicalMemberIdentifier", execution.getLogicalMemberIdentifier());
+        generator.writeStringField("interactionDto", interactionDto != null ? InteractionDtoUtils.dtoMapper().toString(interactionDto) : null);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+}
@@ -20,22 +20,29 @@
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -43,6 +50,12 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Consumers polling at high frequency can instead page through the outbox using {@link #pendingAfter(String, Integer, Integer)},
+ *     requesting the compact {@link OutboxEventsJsonLines JSON lines} representation, and then delete what they have
+ *     processed using {@link #deleteAll(String)}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -74,6 +87,39 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * Cursor-based variant of {@link #pending()}, returning the entries that come after the one identified by
+     * <code>afterInteractionId</code> and <code>afterSequence</code> (or the oldest entries, if omitted).
+     *
+     * <p>
+     *     At most <code>limit</code> entries are returned, itself capped by the configured
+     *     {@link CausewayConfiguration.Extensions.ExecutionOutbox.RestApi#getMaxPending() maxPending}.
+     * </p>
+     *
+     * <p>
+     *     As well as the XML representation supported by {@link #pending()}, the result can be requested as
+     *     {@link OutboxEventsJsonLines JSON lines}.
+     * </p>
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(
+            @Parameter(optionality = Optionality.OPTIONAL) final String afterInteractionId,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer afterSequence,
+            @Parameter(optionality = Optionality.OPTIONAL) final Integer limit) {
+        val maxPending = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending();
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        List<? extends ExecutionOutboxEntry> entries = executionOutboxEntryRepository.findOldestAfter(
+                _Strings.isNotEmpty(afterInteractionId) ? UUID.fromString(afterInteractionId) : null,
+                afterSequence != null ? afterSequence : 0,
+                limit != null && limit > 0 ? Math.min(limit, maxPending) : maxPending);
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -90,14 +136,48 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         val interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    val interactionId = interactionType.getInteractionId();
-                    val sequence = interactionType.getExecution().getSequence();
-                    executionOutboxEntryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        val interactionIdsAndSequences = interactionsDto.getInteractionDto().stream()
+                .map(interactionType -> InteractionIdAndSequence.of(
+                        UUID.fromString(interactionType.getInteractionId()),
+                        interactionType.getExecution().getSequence()))
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteAllByInteractionIdAndSequence(interactionIdsAndSequences);
+    }
+
+    /**
+     * Compact alternative to {@link #deleteMany(String)}, deleting the entries identified by a comma-separated list of
+     * <code>interactionId_sequence</code> pairs, using bulk deletes.
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public void deleteAll(final String interactionIdsAndSequences) {
+        val keys = _Strings.splitThenStreamTrimmed(interactionIdsAndSequences, ",")
+                .map(InteractionIdAndSequence::parse)
+                .collect(Collectors.toList());
+        executionOutboxEntryRepository.deleteAllByInteractionIdAndSequence(keys);
+    }
+
+    @Value(staticConstructor = "of")
+    static class InteractionIdAndSequence implements HasInteractionIdAndSequence {
+        private static final String SEPARATOR = "_";
+        UUID interactionId;
+        int sequence;
+        static InteractionIdAndSequence parse(final String interactionIdAndSequence) {
+            val separatorIndex = interactionIdAndSequence.lastIndexOf(SEPARATOR);
+            if(separatorIndex < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "expected '<interactionId>%s<sequence>', got '%s'", SEPARATOR, interactionIdAndSequence));
+            }
+            return of(
+                    UUID.fromString(interactionIdAndSequence.substring(0, separatorIndex)),
+                    Integer.parseInt(interactionIdAndSequence.substring(separatorIndex + 1)));
+        }
     }
 
     @Inject FactoryService factoryService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
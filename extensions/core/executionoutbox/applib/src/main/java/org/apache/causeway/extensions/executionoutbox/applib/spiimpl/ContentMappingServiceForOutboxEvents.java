@@ -30,12 +30,15 @@
 import org.apache.causeway.applib.services.conmap.ContentMappingService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxEvents;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxEventsJsonLines;
 import org.apache.causeway.schema.ixn.v2.InteractionsDto;
 
 import lombok.val;
 
 /**
  * Implementation of {@link ContentMappingService} that is responsible for serializing a list of
+ * outbox events, either as an {@link InteractionsDto} or as {@link OutboxEventsJsonLines JSON lines}.
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -43,6 +46,12 @@ public class ContentMappingServiceForOutboxEvents implements ContentMappingServi
 
     @Override
     public Object map(final Object object, final List<MediaType> acceptableMediaTypes) {
+        if(isSupported(OutboxEventsJsonLines.class, acceptableMediaTypes)) {
+            return object instanceof OutboxEvents
+                    ? new OutboxEventsJsonLines(((OutboxEvents) object).getExecutions())
+                    : null;
+        }
+
         final boolean supported = isSupported(InteractionsDto.class, acceptableMediaTypes);
         if(!supported) {
             return null;
@@ -67,6 +67,18 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_AT_TIMESTAMP,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp == :timestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),
+    @Query(
+            name = Nq.FIND_AFTER_TIMESTAMP,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE timestamp > :timestamp "
+                  + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
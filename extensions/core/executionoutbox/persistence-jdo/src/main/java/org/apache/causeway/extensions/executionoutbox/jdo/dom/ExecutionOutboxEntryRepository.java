@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,8 +35,10 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionOutboxEntryRepositoryAbstract.LOGICAL_TYPE_NAME)
@@ -38,6 +47,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -58,4 +69,24 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Override
+    protected int deleteInBulk(final Map<UUID, ? extends Collection<Integer>> sequencesByInteractionId) {
+        val filter = new StringBuilder();
+        val parameters = new HashMap<String, Object>();
+        int i = 0;
+        for (val entry : sequencesByInteractionId.entrySet()) {
+            if(i > 0) {
+                filter.append(" || ");
+            }
+            filter.append("(interactionId == :interactionId").append(i)
+                  .append(" && :sequences").append(i).append(".contains(sequence))");
+            parameters.put("interactionId" + i, entry.getKey());
+            parameters.put("sequences" + i, new ArrayList<>(entry.getValue()));
+            i++;
+        }
+        val query = jdoSupportService.getPersistenceManager()
+                .newQuery(ExecutionOutboxEntry.class, filter.toString());
+        return (int) query.deletePersistentAll(parameters);
+    }
+
 }
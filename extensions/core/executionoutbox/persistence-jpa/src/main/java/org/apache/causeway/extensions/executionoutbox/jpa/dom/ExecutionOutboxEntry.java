@@ -75,6 +75,18 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_AT_TIMESTAMP,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp = :timestamp "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),
+    @NamedQuery(
+            name = Nq.FIND_AFTER_TIMESTAMP,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.timestamp > :timestamp "
+                  + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
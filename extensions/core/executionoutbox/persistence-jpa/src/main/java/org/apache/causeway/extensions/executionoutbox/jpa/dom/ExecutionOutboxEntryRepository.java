@@ -18,6 +18,13 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -28,8 +35,10 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
+import lombok.val;
 
 @Service
 @Named(ExecutionOutboxEntryRepositoryAbstract.LOGICAL_TYPE_NAME)
@@ -38,6 +47,8 @@
 public class ExecutionOutboxEntryRepository
 extends ExecutionOutboxEntryRepositoryAbstract<ExecutionOutboxEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
@@ -58,4 +69,25 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Override
+    protected int deleteInBulk(final Map<UUID, ? extends Collection<Integer>> sequencesByInteractionId) {
+        val jpql = new StringBuilder("DELETE FROM ExecutionOutboxEntry ele WHERE ");
+        val parameters = new HashMap<String, Object>();
+        int i = 0;
+        for (val entry : sequencesByInteractionId.entrySet()) {
+            if(i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(ele.pk.interactionId = :interactionId").append(i)
+                .append(" AND ele.pk.sequence IN :sequences").append(i).append(")");
+            parameters.put("interactionId" + i, entry.getKey());
+            parameters.put("sequences" + i, new ArrayList<>(entry.getValue()));
+            i++;
+        }
+        val query = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class)
+                .createQuery(jpql.toString());
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
 }
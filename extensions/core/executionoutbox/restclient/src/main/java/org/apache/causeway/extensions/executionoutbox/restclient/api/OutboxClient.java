@@ -20,17 +20,32 @@
 
 package org.apache.causeway.extensions.executionoutbox.restclient.api;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.io.JsonUtils;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
+import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteAll.DeleteAllMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
 import org.apache.causeway.schema.common.v2.InteractionType;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
@@ -44,6 +59,7 @@
 import org.apache.causeway.viewer.restfulobjects.client.RestfulClientMediaType;
 import org.apache.causeway.viewer.restfulobjects.client.auth.AuthorizationHeaderFactory;
 
+import lombok.SneakyThrows;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -53,6 +69,16 @@
 @Log4j2
 public class OutboxClient {
 
+    /**
+     * Requests the compact JSON lines representation of the pending entries; see <code>OutboxEventsJsonLines</code>
+     * in the executionoutbox applib.
+     */
+    private static final MediaType JSON_LINES_MEDIA_TYPE = new MediaType("application", "json", Map.of(
+            "profile", "urn:org.restfulobjects:repr-types/action-result",
+            "x-ro-domain-type", "org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxEventsJsonLines"));
+
+    private static final ObjectMapper JSON_LINE_MAPPER = new ObjectMapper();
+
     private final RestfulClient client;
     private final OutboxClientConfig outboxClientConfig;
 
@@ -131,6 +157,42 @@ public List<InteractionDto> pending() {
                 .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * Returns (up to <code>limit</code>) pending entries after the one identified by <code>afterInteractionId</code>
+     * and <code>afterSequence</code>, or the oldest entries if no <code>afterInteractionId</code> is provided.
+     *
+     * <p>
+     *     The entries are transferred as JSON lines rather than as a single XML document.  To page through the
+     *     outbox, pass in the interaction id and sequence of the last entry returned by the previous call.
+     * </p>
+     */
+    @SneakyThrows
+    public List<InteractionDto> pending(
+            final @Nullable String afterInteractionId,
+            final int afterSequence,
+            final int limit) {
+
+        val queryString = _Strings.isNotEmpty(afterInteractionId)
+                ? String.format("?afterInteractionId=%s&afterSequence=%d&limit=%d", afterInteractionId, afterSequence, limit)
+                : String.format("?limit=%d", limit);
+        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingAfterUri() + queryString)
+                .accept(JSON_LINES_MEDIA_TYPE);
+        var response = invocationBuilder.get();
+
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            throw _Exceptions.unrecoverable(
+                    "failed to obtain pending interactions (Http-Status-Code: %d)", response.getStatus());
+        }
+
+        try(val reader = new BufferedReader(
+                new InputStreamReader(response.readEntity(InputStream.class), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(_Strings::isNotEmpty)
+                    .map(OutboxClient::interactionDtoFromJsonLine)
+                    .collect(Collectors.toList());
+        }
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(outboxClientConfig.getDeleteUri(),
                 new DeleteMessage(interactionId, sequence));
@@ -145,8 +207,29 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
                 new DeleteManyMessage(InteractionsDtoUtils.dtoMapper().toString(interactionsDto)));
     }
 
+    /**
+     * As per {@link #deleteMany(List)}, but using a single bulk delete on the server
+     * (the <code>deleteAll</code> action, not provided by older servers).
+     */
+    public void deleteAll(final List<InteractionDto> interactionDtos) {
+        if(interactionDtos.isEmpty()) {
+            return;
+        }
+        val interactionIdsAndSequences = interactionDtos.stream()
+                .map(interactionDto -> interactionDto.getInteractionId() + "_" + interactionDto.getExecution().getSequence())
+                .collect(Collectors.joining(","));
+        invoke(outboxClientConfig.getDeleteAllUri(),
+                new DeleteAllMessage(interactionIdsAndSequences));
+    }
+
     // -- HELPER
 
+    @SneakyThrows
+    private static InteractionDto interactionDtoFromJsonLine(final String jsonLine) {
+        val interactionDtoXml = JSON_LINE_MAPPER.readTree(jsonLine).path("interactionDto").asText();
+        return InteractionDtoUtils.dtoMapper().read(interactionDtoXml);
+    }
+
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
         val copy = new InteractionDto();
         copy.setInteractionId(orig.getInteractionId());
@@ -38,13 +38,24 @@
 @NoArgsConstructor
 public class OutboxClientConfig {
 
+    @Builder.Default
     @XmlElement(name="pendingUri")
     private String pendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
 
+    @Builder.Default
     @XmlElement(name="deleteUri")
     private String deleteUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
 
+    @Builder.Default
     @XmlElement(name="deleteManyUri")
     private String deleteManyUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke";
 
+    @Builder.Default
+    @XmlElement(name="pendingAfterUri")
+    private String pendingAfterUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingAfter/invoke";
+
+    @Builder.Default
+    @XmlElement(name="deleteAllUri")
+    private String deleteAllUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteAll/invoke";
+
 }
@@ -156,6 +156,74 @@ void pending_when_many() {
         assertThat(pending).hasSize(3);
     }
 
+    @Test
+    void pending_after_cursor() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+
+            bump(counter1, 3);
+        });
+
+        // when
+        List<InteractionDto> page1 = outboxClient.pending(null, 0, 2);
+
+        // then
+        assertThat(page1).hasSize(2);
+
+        // when
+        InteractionDto last = page1.get(1);
+        List<InteractionDto> page2 = outboxClient.pending(last.getInteractionId(), last.getExecution().getSequence(), 2);
+
+        // then
+        assertThat(page2).hasSize(1);
+        assertThat(page2.get(0).getInteractionId())
+                .isNotIn(page1.get(0).getInteractionId(), page1.get(1).getInteractionId());
+
+        // when
+        outboxClient.deleteAll(page1);
+        outboxClient.deleteMany(page2);
+
+        // then
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = executionOutboxEntryRepository.findOldest();
+            assertThat(all).isEmpty();
+        });
+    }
+
+    @Test
+    void deleteAll_exceeding_a_single_bulk_delete() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+            counter2 = counterRepository.findByName("counter-2");
+
+            bump(counter1, 70);
+            bump(counter2, 80);
+        });
+
+        // when
+        interactionService.runAnonymous(() -> {
+            transactionService.runTransactional(Propagation.REQUIRED, () -> {
+                List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+                assertThat(all).hasSize(150);
+
+                int deleted = executionOutboxEntryRepository.deleteAllByInteractionIdAndSequence(all);
+
+                // then
+                assertThat(deleted).isEqualTo(150);
+            });
+        });
+
+        // then
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(all).isEmpty();
+        });
+    }
+
     @Test
     void scenario() {
 
@@ -63,14 +63,26 @@ public Class<E> getEntityClass() {
 
     @Override
     public AuditTrailEntry createFor(final EntityPropertyChange change) {
-        E entry = factoryService.detachedEntity(auditTrailEntryClass);
-        entry.init(change);
-        return repositoryService.persistAndFlush(entry);
+        return repositoryService.persistAndFlush(newEntryFor(change));
     }
 
+    /**
+     * Persists all entries, but flushes only once, such that the ORM can send the inserts
+     * as JDBC batches (as configured with <code>eclipselink.jdbc.batch-writing</code>
+     * or <code>datanucleus.rdbms.statementBatchLimit</code> respectively).
+     */
     @Override
-    public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+    public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
+        return Can.ofCollection(repositoryService.execInBulk(() ->
+                entityPropertyChanges
+                    .<AuditTrailEntry>map(change -> repositoryService.persist(newEntryFor(change)))
+                    .toList()));
+    }
+
+    private E newEntryFor(final EntityPropertyChange change) {
+        final E entry = factoryService.detachedEntity(auditTrailEntryClass);
+        entry.init(change);
+        return entry;
     }
 
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
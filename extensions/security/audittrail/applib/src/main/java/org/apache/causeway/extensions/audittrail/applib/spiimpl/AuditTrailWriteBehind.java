@@ -0,0 +1,167 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.concurrent._WriteBehindQueue;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Supports the (optional) write-behind mode of {@link EntityPropertyChangeSubscriberForAuditTrail}.
+ * <p>
+ * Entity property changes are queued (bounded) once their transaction has committed, for a dedicated
+ * writer thread, that writes them in batches, each within its own transaction.
+ *
+ * @see CausewayConfiguration.Extensions.AuditTrail.WriteBehind
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AuditTrailWriteBehind.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AuditTrailWriteBehind {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtAuditTrailApplib.NAMESPACE + ".AuditTrailWriteBehind";
+
+    private final AuditTrailEntryRepository auditTrailEntryRepository;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final CausewayConfiguration.Extensions.AuditTrail.WriteBehind config;
+
+    private _WriteBehindQueue<EntityPropertyChange> queue;
+
+    @Inject
+    public AuditTrailWriteBehind(
+            final AuditTrailEntryRepository auditTrailEntryRepository,
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final CausewayConfiguration causewayConfiguration) {
+        this.auditTrailEntryRepository = auditTrailEntryRepository;
+        this.interactionService = interactionService;
+        this.transactionService = transactionService;
+        this.config = causewayConfiguration.getExtensions().getAuditTrail().getWriteBehind();
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!isEnabled()) {
+            return;
+        }
+        queue = _WriteBehindQueue.start("causeway-audittrail-writer",
+                config.getQueueCapacity(), config.getBatchSize(), config.getFlushInterval(),
+                this::writeBatch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(queue==null) {
+            return;
+        }
+        // from now on, any changes are written synchronously
+        val notWritten = queue.shutdown(config.getShutdownTimeout());
+        if(!notWritten.isEmpty()) {
+            log.warn("shutdown timeout exceeded, {} audit trail entries not written (interactions {})",
+                    notWritten.size(), interactionIdsOf(notWritten));
+        }
+    }
+
+    /**
+     * Queues given changes for writing, once the current transaction (if any) has committed;
+     * changes of a transaction that rolls back are discarded.
+     * <p>
+     * If the queue is full, blocks for up to the
+     * {@link CausewayConfiguration.Extensions.AuditTrail.WriteBehind#getEnqueueTimeout() enqueue timeout},
+     * after which any changes not queued are written by the calling thread, within a new transaction.
+     */
+    void enqueueAfterCommit(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(entityPropertyChanges.isEmpty()) {
+            return;
+        }
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entityPropertyChanges);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entityPropertyChanges);
+            }
+        });
+    }
+
+    // -- HELPER
+
+    private void enqueue(final Can<EntityPropertyChange> entityPropertyChanges) {
+        val notQueued = queue.offer(entityPropertyChanges.toList(), config.getEnqueueTimeout());
+        if(!notQueued.isEmpty()) {
+            log.warn("writing {} audit trail entries synchronously", notQueued.size());
+            writeBatch(notQueued);
+        }
+    }
+
+    private void writeBatch(final List<EntityPropertyChange> batch) {
+        val entityPropertyChanges = Can.ofCollection(new ArrayList<>(batch));
+        interactionService.runAnonymousAndCatch(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                auditTrailEntryRepository.createFor(entityPropertyChanges))
+            .ifFailureFail())
+        .ifFailure(failure->
+            log.error("failed to write {} audit trail entries (interactions {})",
+                    batch.size(), interactionIdsOf(batch), failure));
+    }
+
+    private static String interactionIdsOf(final List<EntityPropertyChange> changes) {
+        return changes.stream()
+                .map(EntityPropertyChange::getInteractionId)
+                .distinct()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+    }
+
+}
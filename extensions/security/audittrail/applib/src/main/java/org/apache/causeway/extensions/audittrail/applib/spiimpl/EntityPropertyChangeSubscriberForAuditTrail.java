@@ -45,6 +45,11 @@
  * entry to the database (the {@link AuditTrailEntry} entity) each time a
  * user either logs on or logs out, or if their session expires.
  *
+ * <p>
+ *     If write-behind is enabled, then the entries are instead written asynchronously by the
+ *     {@link AuditTrailWriteBehind}, in a separate transaction, once the changes' transaction has committed.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -60,6 +65,7 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final TransactionService transactionService;
     final AuditTrailEntryRepository auditTrailEntryRepository;
     final CausewayConfiguration causewayConfiguration;
+    final AuditTrailWriteBehind auditTrailWriteBehind;
 
     @Override
     public boolean isEnabled() {
@@ -71,14 +77,22 @@ public void onChanging(final EntityPropertyChange entityPropertyChange) {
         if (!isEnabled()) {
             return;
         }
+        if(auditTrailWriteBehind.isEnabled()) {
+            onChanging(Can.ofSingleton(entityPropertyChange));
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
     @Override
-    public void onChanging(Can<EntityPropertyChange> entityPropertyChanges) {
+    public void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
         if (!isEnabled()) {
             return;
         }
+        if(auditTrailWriteBehind.isEnabled()) {
+            auditTrailWriteBehind.enqueueAfterCommit(entityPropertyChanges);
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChanges);
     }
 
@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+import lombok.val;
+
+class AuditTrailWriteBehindTest {
+
+    private List<EntityPropertyChange> written;
+    private AuditTrailWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        written = new CopyOnWriteArrayList<>();
+
+        val auditTrailEntryRepository = mock(AuditTrailEntryRepository.class);
+        when(auditTrailEntryRepository.createFor(any(Can.class))).thenAnswer(invocation->{
+            final Can<EntityPropertyChange> changes = invocation.getArgument(0);
+            changes.forEach(written::add);
+            return Can.empty();
+        });
+
+        val interactionService = mock(InteractionService.class);
+        when(interactionService.runAnonymousAndCatch(any())).thenAnswer(invocation->
+            Try.run(invocation.getArgument(0)));
+
+        val transactionService = mock(TransactionService.class);
+        when(transactionService.runTransactional(any(Propagation.class), any())).thenAnswer(invocation->
+            Try.run(invocation.getArgument(1)));
+
+        val causewayConfiguration = new CausewayConfiguration(null, null);
+        val config = causewayConfiguration.getExtensions().getAuditTrail().getWriteBehind();
+        config.setEnabled(true);
+        config.setFlushInterval(Duration.ofMillis(10));
+
+        writeBehind = new AuditTrailWriteBehind(
+                auditTrailEntryRepository, interactionService, transactionService, causewayConfiguration);
+        writeBehind.init();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void written_once_committed() throws InterruptedException {
+        val change = changeOf("name");
+        writeBehind.enqueueAfterCommit(Can.ofSingleton(change));
+
+        // not even queued before the transaction completes
+        Thread.sleep(50L);
+        assertThat(written).isEmpty();
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        writeBehind.shutdown();
+
+        assertThat(written).containsExactly(change);
+    }
+
+    @Test
+    void discarded_on_rollback() {
+        writeBehind.enqueueAfterCommit(Can.ofSingleton(changeOf("name")));
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        writeBehind.shutdown();
+
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void written_without_transaction() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        val change = changeOf("name");
+        writeBehind.enqueueAfterCommit(Can.ofSingleton(change));
+        writeBehind.shutdown();
+
+        assertThat(written).containsExactly(change);
+    }
+
+    // -- HELPER
+
+    private static void completeTransaction(final int status) {
+        val synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization->{
+            if(status==TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        });
+    }
+
+    private static EntityPropertyChange changeOf(final String propertyId) {
+        return EntityPropertyChange.of(UUID.randomUUID(), 0,
+                Bookmark.forLogicalTypeNameAndIdentifier("audit.Counter", "1"),
+                "audit.Counter#" + propertyId, propertyId, "a", "b", "sven",
+                new Timestamp(0L));
+    }
+
+}
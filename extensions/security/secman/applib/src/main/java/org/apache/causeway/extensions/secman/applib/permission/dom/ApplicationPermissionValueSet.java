@@ -21,10 +21,13 @@
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Multimaps;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
@@ -99,6 +102,18 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoized {@link Evaluation}s per {@link Identifier}, one map for each {@link ApplicationPermissionMode}.
+     *
+     * <p>
+     *     As this value set is immutable, so is the outcome of any evaluation, hence repeated checks
+     *     (eg. for every row of a table) are just a map lookup.
+     *     Not serialized, instead re-populated on demand.
+     *     Bounded by {@link #EVALUATION_CACHE_MAX_SIZE} entries per mode.
+     * </p>
+     */
+    private transient volatile EvaluationCache evaluationCache;
+
 
     // -- constructor
 
@@ -140,6 +155,37 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * Same as {@link #grants(ApplicationFeatureId, ApplicationPermissionMode)},
+     * but memoized per {@link Identifier}.
+     */
+    @Programmatic
+    public boolean grants(final Identifier identifier, final ApplicationPermissionMode mode) {
+        return evaluate(identifier, mode).isGranted();
+    }
+
+    /**
+     * Same as {@link #evaluate(ApplicationFeatureId, ApplicationPermissionMode)},
+     * but memoized per {@link Identifier}.
+     */
+    @Programmatic
+    public Evaluation evaluate(
+            final Identifier identifier,
+            final ApplicationPermissionMode mode) {
+
+        val evaluations = evaluationCache().evaluationsFor(mode);
+        val evaluation = evaluations.get(identifier);
+        if(evaluation != null) {
+            return evaluation;
+        }
+        if(evaluations.size() >= EVALUATION_CACHE_MAX_SIZE) {
+            // bounded; start over, such that (only) the features currently in use get memoized again
+            evaluations.clear();
+        }
+        return evaluations.computeIfAbsent(identifier, id->
+                evaluate(ApplicationFeatureId.fromIdentifier(id), mode));
+    }
+
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
@@ -155,6 +201,31 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private EvaluationCache evaluationCache() {
+        val evaluationCache = this.evaluationCache;
+        if(evaluationCache != null) {
+            return evaluationCache;
+        }
+        // racing threads might create their own instance, which is harmless
+        return this.evaluationCache = new EvaluationCache();
+    }
+
+    /**
+     * Upper bound for the number of memoized {@link Evaluation}s per {@link ApplicationPermissionMode}.
+     */
+    private static final int EVALUATION_CACHE_MAX_SIZE = 4096;
+
+    private static class EvaluationCache {
+        private final Map<Identifier, Evaluation> viewing = _Maps.newConcurrentHashMap();
+        private final Map<Identifier, Evaluation> changing = _Maps.newConcurrentHashMap();
+
+        Map<Identifier, Evaluation> evaluationsFor(final ApplicationPermissionMode mode) {
+            return mode == ApplicationPermissionMode.CHANGING
+                    ? changing
+                    : viewing;
+        }
+    }
+
 
     // -- equals, hashCode, toString
     @Override
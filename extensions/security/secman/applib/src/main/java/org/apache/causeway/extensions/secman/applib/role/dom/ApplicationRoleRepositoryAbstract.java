@@ -30,6 +30,7 @@
 import org.springframework.stereotype.Repository;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -39,6 +40,7 @@
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.permission.dom.mixins.ApplicationPermission_delete;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.events.UserRolesChangedEvent;
 import org.apache.causeway.extensions.secman.applib.util.RegexReplacer;
 
 import lombok.val;
@@ -54,6 +56,7 @@
 
     @Inject private FactoryService factoryService;
     @Inject private RepositoryService repository;
+    @Inject private EventBusService eventBusService;
     @Inject private CausewayConfiguration config;
     @Inject private RegexReplacer regexReplacer;
     @Inject private Provider<QueryResultsCache> queryResultsCacheProvider;
@@ -145,6 +148,7 @@ public void addRoleToUser(
         role.getUsers().add(user);
 
         repository.persistAndFlush(user, role);
+        eventBusService.post(UserRolesChangedEvent.of(user, role, true));
     }
 
     @Override
@@ -156,6 +160,7 @@ public void removeRoleFromUser(
         role.getUsers().remove(user);
 
         repository.persistAndFlush(user, role);
+        eventBusService.post(UserRolesChangedEvent.of(user, role, false));
     }
 
     @Override
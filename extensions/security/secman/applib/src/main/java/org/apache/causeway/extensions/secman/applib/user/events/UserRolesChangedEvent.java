@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.applib.user.events;
+
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * SecMan fires this event when a role was added to or removed from a user.
+ * <p>
+ * As this only changes the association between the user and the role
+ * (as opposed to the user or role entity itself),
+ * subscribers interested in a user's (effective) permissions cannot rely on
+ * the entities' lifecycle events instead.
+ * <p>
+ * <pre>
+ * &#64;Component
+ * public class Listener {
+ *     &#64;EventListener(UserRolesChangedEvent.class)
+ *     public void listenOn(UserRolesChangedEvent event) {
+ *         // business logic ...
+ *     }
+ * }
+ *
+ * </pre>
+ *
+ * @since 2.0 {@index}
+ */
+@Value(staticConstructor="of")
+public class UserRolesChangedEvent {
+
+    @NonNull private ApplicationUser user;
+    @NonNull private ApplicationRole role;
+
+    /**
+     * Whether the role was added to the user, otherwise removed.
+     */
+    private boolean added;
+
+    // -- SHORTCUTS
+
+    public String getUserName() {
+        return user.getUsername();
+    }
+
+}
@@ -18,36 +18,48 @@
  */
 package org.apache.causeway.extensions.secman.integration.authorizor;
 
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
-import javax.inject.Provider;
 
-import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
-import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
+import org.apache.causeway.applib.services.user.RoleMemento;
+import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.commons.internal.base._Lazy;
-import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
 import org.apache.causeway.core.security.authorization.Authorizor;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
+import org.apache.causeway.extensions.secman.applib.user.events.UserRolesChangedEvent;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 /**
@@ -71,7 +83,7 @@
 public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
-    @Inject Provider<PermissionCache> cache;
+    @Inject PermissionCache cache;
     @Inject MetaModelService metaModelService;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
@@ -104,37 +116,169 @@ private boolean grants(
             final Identifier identifier,
             final ApplicationPermissionMode permissionMode) {
 
-        val userName = authentication.getUser().getName();
-        val permissionSetIfAny = cache.get()
-                .computeIfAbsent(userName, ()->
+        val user = authentication.getUser();
+        val permissionSetIfAny = cache
+                .computeIfAbsent(PermissionCache.keyFor(user), ()->
                 applicationUserRepository
-                .findByUsername(userName)
+                .findByUsername(user.getName())
                 .map(ApplicationUser::getPermissionSet));
 
         return permissionSetIfAny
-        .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
-                permissionMode))
+        .map(permissionSet->permissionSet.grants(identifier, permissionMode))
         .orElse(false);
     }
 
+    /**
+     * Application scoped cache of {@link ApplicationPermissionValueSet}s,
+     * such that (in the steady state) authorization does not require any database round-trips.
+     * <p>
+     * Entries expire after a configurable time-to-live, the number of entries is bounded by a configurable
+     * maximum size (see {@link CausewayConfiguration.Extensions.Secman.PermissionCache}).
+     * All entries are discarded, whenever any {@link ApplicationUser}, {@link ApplicationRole} or
+     * {@link ApplicationPermission} gets persisted, updated or removed,
+     * or a role gets added to or removed from a user (see {@link UserRolesChangedEvent}).
+     */
     @Component
     @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCache")
-    @InteractionScope
-    static class PermissionCache implements DisposableBean {
+    public static class PermissionCache {
 
-        private final Map<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername = _Maps.newHashMap();
+        @RequiredArgsConstructor
+        private static class Entry {
+            final Optional<ApplicationPermissionValueSet> permissionSetIfAny;
+            final long expiresAtNanos;
+            /** the cache's generation at the time the lookup started */
+            final long generation;
+            boolean isValid(final long now, final long currentGeneration) {
+                return now - expiresAtNanos < 0
+                        && generation == currentGeneration;
+            }
+        }
+
+        private final Map<String, Entry> entriesByKey = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        private final long timeToLiveNanos;
+        private final int maxSize;
+
+        @Inject
+        public PermissionCache(final CausewayConfiguration causewayConfiguration) {
+            val cacheConfig = causewayConfiguration.getExtensions().getSecman().getPermissionCache();
+            this.timeToLiveNanos = cacheConfig.getTimeToLive().toNanos();
+            this.maxSize = Math.max(1, cacheConfig.getMaxSize());
+        }
+
+        /**
+         * Number of lookups that were served from the cache.
+         */
+        public long getHitCount() {
+            return hitCount.sum();
+        }
+
+        /**
+         * Number of lookups that required the permission set to be (re-)computed.
+         */
+        public long getMissCount() {
+            return missCount.sum();
+        }
+
+        /**
+         * Discards all cached permission sets.
+         */
+        public void invalidateAll() {
+            generation.incrementAndGet();
+            entriesByKey.clear();
+        }
+
+        @EventListener(PostStoreEvent.class)
+        public void onPostStore(final PostStoreEvent event) {
+            invalidateIfSecurityRelated(event.getPersistableObject());
+        }
+
+        @EventListener(PreRemoveEvent.class)
+        public void onPreRemove(final PreRemoveEvent event) {
+            invalidateIfSecurityRelated(event.getRemovableObject());
+        }
+
+        /**
+         * Changing a user's roles only changes the join between user and role,
+         * which is not reliably reported as a change to either entity.
+         */
+        @EventListener(UserRolesChangedEvent.class)
+        public void onUserRolesChanged(final UserRolesChangedEvent event) {
+            invalidateIfSecurityRelated(event.getUser());
+        }
+
+        // -- HELPER
 
-        @Override
-        public void destroy() {
-            permissionsByUsername.clear();
+        static String keyFor(final @NonNull UserMemento user) {
+            // when impersonating, permissions are derived from the roles of the (impersonating) user memento
+            return user.isImpersonating()
+                    ? user.getName() + user.getRoles().stream()
+                            .map(RoleMemento::getName)
+                            .sorted(Comparator.naturalOrder())
+                            .collect(Collectors.joining(",", "[", "]"))
+                    : user.getName();
         }
 
         Optional<ApplicationPermissionValueSet> computeIfAbsent(
-                final @NonNull String userName,
+                final @NonNull String key,
                 final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
 
-            return permissionsByUsername.computeIfAbsent(userName, __->lookup.get());
+            val now = System.nanoTime();
+            // read before the entry, such that an entry stored after an invalidation is never taken as stale
+            val generationBeforeLookup = generation.get();
+            val entry = entriesByKey.get(key);
+            if(entry != null
+                    && entry.isValid(now, generationBeforeLookup)) {
+                hitCount.increment();
+                return entry.permissionSetIfAny;
+            }
+
+            missCount.increment();
+            val permissionSetIfAny = lookup.get();
+
+            // Entries carry the generation their lookup started in; if an invalidation happened meanwhile
+            // (even one that lands right before the put below), the entry no longer validates on read,
+            // hence what was looked up concurrently to an invalidation is never served.
+            if(entry == null
+                    && entriesByKey.size() >= maxSize) {
+                evictExpiredElseEldest(now);
+            }
+            entriesByKey.put(key, new Entry(permissionSetIfAny, now + timeToLiveNanos, generationBeforeLookup));
+            return permissionSetIfAny;
+        }
+
+        private void evictExpiredElseEldest(final long now) {
+            val currentGeneration = generation.get();
+            entriesByKey.values().removeIf(entry->!entry.isValid(now, currentGeneration));
+            while(entriesByKey.size() >= maxSize) {
+                entriesByKey.entrySet().stream()
+                .min(Comparator.comparingLong(entry->entry.getValue().expiresAtNanos))
+                .ifPresentOrElse(
+                        eldest->entriesByKey.remove(eldest.getKey(), eldest.getValue()),
+                        entriesByKey::clear);
+            }
+        }
+
+        private void invalidateIfSecurityRelated(final Object pojo) {
+            if(!(pojo instanceof ApplicationUser
+                    || pojo instanceof ApplicationRole
+                    || pojo instanceof ApplicationPermission)) {
+                return;
+            }
+            invalidateAll();
+            // also after the transaction completes,
+            // as other threads might have meanwhile cached permissions not reflecting this change
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidateAll();
+                    }
+                });
+            }
         }
 
     }
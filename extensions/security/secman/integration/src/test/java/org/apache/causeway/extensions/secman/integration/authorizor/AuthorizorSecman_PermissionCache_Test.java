@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.applib.user.events.UserRolesChangedEvent;
+
+import lombok.val;
+
+class AuthorizorSecman_PermissionCache_Test {
+
+    AuthorizorSecman.PermissionCache cache;
+    AtomicInteger lookupCount;
+
+    @BeforeEach
+    void setup() {
+        cache = new AuthorizorSecman.PermissionCache(new CausewayConfiguration(null, null));
+        lookupCount = new AtomicInteger();
+    }
+
+    @Test
+    void second_lookup_is_served_from_cache() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidation_discards_cached_entries() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.invalidateAll();
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void changing_a_users_roles_discards_cached_entries() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.onUserRolesChanged(UserRolesChangedEvent.of(
+                mock(ApplicationUser.class), mock(ApplicationRole.class), true));
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void what_was_looked_up_concurrently_to_an_invalidation_is_not_served() {
+        // invalidation lands while the lookup is in progress, that is, before the entry gets stored
+        cache.computeIfAbsent("sven", ()->{
+            val permissionSetIfAny = lookup();
+            cache.invalidateAll();
+            return permissionSetIfAny;
+        });
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("sven", this::lookup);
+
+        // the second lookup is not served from cache, whereas the third is
+        assertThat(lookupCount.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    // -- HELPER
+
+    private Optional<ApplicationPermissionValueSet> lookup() {
+        lookupCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+}
@@ -28,9 +28,13 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -42,6 +46,8 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.concurrent._ConcurrentContext;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
 import org.apache.causeway.extensions.sse.applib.service.SseChannel;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
@@ -71,9 +77,35 @@ public class SseServiceDefault implements SseService {
 
     @Inject private TransactionService transactionService;
     @Inject private InteractionService interactionService;
+    @Inject private CausewayConfiguration causewayConfiguration;
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    /**
+     * Only set if configured to run on virtual threads (and supported by the Java runtime),
+     * otherwise tasks run on the common fork-join pool.
+     */
+    private ExecutorService virtualThreadExecutor;
+
+    @PostConstruct
+    public void init() {
+        if(causewayConfiguration.getCore().getRuntime().isVirtualThreads()) {
+            virtualThreadExecutor = _ConcurrentContext.newVirtualThreadPerTaskExecutor()
+                    .orElse(null);
+            if(virtualThreadExecutor==null) {
+                log.warn("virtual threads are not supported by this Java runtime, "
+                        + "falling back to the common fork-join pool for server-sent events");
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(virtualThreadExecutor!=null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,7 +117,9 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        val executor = ForkJoinPool.commonPool();
+        final Executor executor = virtualThreadExecutor!=null
+                ? virtualThreadExecutor
+                : ForkJoinPool.commonPool();
 
         switch(executionBehavior) {
         case SIMPLE:
@@ -20,12 +20,13 @@
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -64,7 +65,6 @@
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
-import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -122,20 +122,29 @@ public int getOrder() {
     /**
      * Contains a record for every objectId/propertyId that was changed.
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private _PropertyChangeRecordStore enlistedPropertyChangeRecords;
 
     /**
-     * Contains pre- and post- values of every property of every object that actually changed. A lazy snapshot,
-     * triggered by internal call to {@link #snapshotPropertyChangeRecords()}.
+     * The {@link #enlistedPropertyChangeRecords}, once their post values have been captured, marking those
+     * of every property of every object that actually changed. Lazily triggered by internal call to
+     * {@link #propertyChangeRecordsForPublishing()}.
      */
-    private final _Lazy<Set<PropertyChangeRecord>> entityPropertyChangeRecordsForPublishing
-        = _Lazy.threadSafe(this::capturePostValuesAndDrain);
+    private final _Lazy<_PropertyChangeRecordStore> entityPropertyChangeRecordsForPublishing
+        = _Lazy.threadSafe(this::capturePostValues);
 
 
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Contains the type of every entity that was enlisted or recognized as changed, regardless of whether
+     * enabled for entity change publishing; to decide whether an auto-flush is required.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newHashSet();
+
     private final LongAdder numberEntitiesLoaded = new LongAdder();
+    private final LongAdder numberFlushesPerformed = new LongAdder();
+    private final LongAdder numberFlushesSkipped = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
 
@@ -145,16 +154,21 @@ public int getOrder() {
     @PostConstruct
     public void init() {
         this.suppressAutoFlush = causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().isSuppressAutoFlush();
+        this.enlistedPropertyChangeRecords = new _PropertyChangeRecordStore(
+                causewayConfiguration.getPersistence().getCommons().getEntityChangeTracker().getSpillThreshold());
     }
 
 
     @Override
     public void destroy() throws Exception {
-        enlistedPropertyChangeRecordsById.clear();
+        enlistedPropertyChangeRecords.clear();
         entityPropertyChangeRecordsForPublishing.clear();
         changeKindByEnlistedAdapter.clear();
+        changedEntityTypes.clear();
 
         numberEntitiesLoaded.reset();
+        numberFlushesPerformed.reset();
+        numberFlushesSkipped.reset();
         entityChangeEventCount.reset();
         persistentChangesEncountered.set(false);
     }
@@ -168,33 +182,19 @@ private void suppressAutoFlushIfRequired(final Runnable runnable) {
     }
 
 
-    Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
+    _PropertyChangeRecordStore propertyChangeRecordsForPublishing() {
         // this code path has side-effects, it locks the result for this transaction,
         // such that cannot enlist on top of it
         return entityPropertyChangeRecordsForPublishing.get();
     }
 
     /**
-     * For any enlisted Object Properties collects those, that are meant for publishing,
-     * then clears enlisted objects.
+     * For any enlisted Object Properties captures their post values (which have been left empty up to now),
+     * marking those, that are meant for publishing.
      */
-    private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
-
-        val records = enlistedPropertyChangeRecordsById.values().stream()
-                // set post values, which have been left empty up to now
-                .peek(rec -> {
-                    if(MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
-                        rec.withPostValueSetToDeleted();
-                    } else {
-                        rec.withPostValueSetToCurrentElseUnknown();
-                    }
-                })
-                .filter(managedProperty-> shouldPublish(managedProperty.getPreAndPostValue()))
-                .collect(_Sets.toUnmodifiable());
-
-        enlistedPropertyChangeRecordsById.clear();
-
-        return records;
+    private _PropertyChangeRecordStore capturePostValues() {
+        enlistedPropertyChangeRecords.capturePostValues(this::shouldPublish);
+        return enlistedPropertyChangeRecords;
     }
 
     private boolean shouldPublish(final PreAndPostValue preAndPostValue) {
@@ -231,12 +231,15 @@ public void beforeCompletion() {
         } finally {
             log.debug("purging entity change records");
 
-            enlistedPropertyChangeRecordsById.clear();
+            enlistedPropertyChangeRecords.clear();
             entityPropertyChangeRecordsForPublishing.clear();
 
             changeKindByEnlistedAdapter.clear();
+            changedEntityTypes.clear();
             entityChangeEventCount.reset();
             numberEntitiesLoaded.reset();
+            numberFlushesPerformed.reset();
+            numberFlushesSkipped.reset();
         }
     }
 
@@ -259,11 +262,24 @@ public Can<EntityPropertyChange> getPropertyChanges(
             final java.sql.Timestamp timestamp,
             final String userName,
             final TransactionId txId) {
-        return snapshotPropertyChangeRecords().stream()
-                .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
+        return streamPropertyChanges(timestamp, userName, txId)
                 .collect(Can.toCan());
     }
 
+    @Override
+    public Stream<EntityPropertyChange> streamPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId) {
+        return propertyChangeRecordsForPublishing().streamForPublishing()
+                .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId));
+    }
+
+    @Override
+    public int countPropertyChanges() {
+        return propertyChangeRecordsForPublishing().countForPublishing();
+    }
+
     // -- DEPENDENCIES
 
     Interaction currentInteraction() {
@@ -317,7 +333,7 @@ private boolean enlistForChangeKindPublishing(
 
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return enlistedPropertyChangeRecords.size();
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -326,6 +342,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        recognizeChanging(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -336,8 +353,8 @@ public void enlistCreated(final ManagedObject entity) {
             enlistForChangeKindPublishing(entity, EntityChangeKind.CREATE);
 
             MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                    .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
-                    .forEach(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+                    // only if not previously seen
+                    .forEach(pcrId -> enlistedPropertyChangeRecords.addIfAbsent(pcrId, PropertyChangeRecord::ofNew));
         });
     }
 
@@ -347,6 +364,7 @@ public void enlistUpdating(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        recognizeChanging(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -367,15 +385,13 @@ public void enlistUpdating(
                 // provided by ORM
                 ormPropertyChangeRecords
                         .stream()
-                        .filter(pcr -> ! enlistedPropertyChangeRecordsById.containsKey(pcr.getId())) // only if not previously seen
-                        .forEach(pcr -> enlistedPropertyChangeRecordsById.put(pcr.getId(), pcr));
+                        // only if not previously seen
+                        .forEach(enlistedPropertyChangeRecords::addIfAbsent);
             } else {
                 // home-grown approach
                 MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                        .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
-                        .map(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofCurrent(pcrId)))
-                        .filter(Objects::nonNull)   // shouldn't happen, just keeping compiler happy
-                        .forEach(PropertyChangeRecord::withPreValueSetToCurrentElseUnknown);
+                        // only if not previously seen
+                        .forEach(pcrId -> enlistedPropertyChangeRecords.addIfAbsent(pcrId, PropertyChangeRecord::ofCurrent));
             }
         });
     }
@@ -384,6 +400,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        recognizeChanging(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -395,8 +412,8 @@ public void enlistDeleting(final ManagedObject entity) {
                 log.debug("enlist entity's property changes for publishing {}", entity);
 
                 MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
-                        .forEach(pcrId -> enlistedPropertyChangeRecordsById
-                                .computeIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id)));
+                        .forEach(pcrId -> enlistedPropertyChangeRecords
+                                .addIfAbsent(pcrId, PropertyChangeRecord::ofDeleting));
             }
         });
     }
@@ -411,6 +428,34 @@ public void incrementLoaded(final ManagedObject entity) {
         numberEntitiesLoaded.increment();
     }
 
+    @Override
+    public void recognizeChanging(final ManagedObject entity) {
+        if(ManagedObjects.isSpecified(entity)) {
+            changedEntityTypes.add(entity.getSpecification().getCorrespondingClass());
+        }
+    }
+
+    @Override
+    public boolean hasChangedEntityTypeMatching(final Predicate<Class<?>> predicate) {
+        return changedEntityTypes.stream().anyMatch(predicate);
+    }
+
+    /**
+     * Used only for the implementation of {@link MetricsService}.
+     */
+    @Override
+    public void incrementFlushesPerformed() {
+        numberFlushesPerformed.increment();
+    }
+
+    /**
+     * Used only for the implementation of {@link MetricsService}.
+     */
+    @Override
+    public void incrementFlushesSkipped() {
+        numberFlushesSkipped.increment();
+    }
+
     // -- METRICS SERVICE
 
     @Override
@@ -422,4 +467,15 @@ public int numberEntitiesLoaded() {
     public int numberEntitiesDirtied() {
         return changeKindByEnlistedAdapter.size();
     }
+
+    @Override
+    public int numberFlushesPerformed() {
+        return Math.toIntExact(numberFlushesPerformed.longValue());
+    }
+
+    @Override
+    public int numberFlushesSkipped() {
+        return Math.toIntExact(numberFlushesSkipped.longValue());
+    }
+
 }
@@ -0,0 +1,420 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmEntityUtils;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Compact store of the {@link PropertyChangeRecord}s enlisted within a transaction.
+ * <p>
+ * Rather than holding a record (along with its id and pre-value) per entity property,
+ * holds per entity type a table with a row per entity and a column per property,
+ * each column holding its pre-values in arrays. Pre-values of primitive properties are held unboxed.
+ * <p>
+ * Once the number of (non-primitive) pre-values held on-heap reaches the {@code spillThreshold} (if positive),
+ * any further are spilled to a memory-mapped {@link _SpillFile}, provided these can be encoded losslessly
+ * by a {@link _SpillCodec}; other values (such as references to entities) are kept on-heap regardless.
+ * <p>
+ * Post-values are captured once only, retaining those of the records to be published (spilled alike).
+ * Records are only materialized while streamed for publishing, such that these never have to be held all at once.
+ */
+@RequiredArgsConstructor
+final class _PropertyChangeRecordStore {
+
+    private static final byte ABSENT = 0;
+    private static final byte NEW = 1;
+    private static final byte UNKNOWN = 2;
+    private static final byte PRIMITIVE = 3;
+    private static final byte ON_HEAP = 4;
+    private static final byte SPILLED = 5;
+
+    private final int spillThreshold;
+
+    private final Map<ObjectSpecification, Table> tablesBySpec = _Maps.newLinkedHashMap();
+    private _SpillFile spillFile;
+    private int onHeapCount;
+    private int size;
+    private boolean postValuesCaptured;
+    private int publishingCount;
+
+    /**
+     * The number of records added, regardless of whether their property actually changed.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the record as provided by given {@code recordFactory}, unless already present for given {@code id}.
+     */
+    void addIfAbsent(
+            final PropertyChangeRecordId id,
+            final Function<PropertyChangeRecordId, PropertyChangeRecord> recordFactory) {
+        if(postValuesCaptured) {
+            throw _Exceptions.illegalState("cannot add records, once post values have been captured");
+        }
+        val table = tablesBySpec.computeIfAbsent(id.getEntity().getSpecification(), __->new Table());
+        val row = table.rowFor(id);
+        val column = table.columnFor(id.getProperty());
+        if(column.isPresent(row)) {
+            return;
+        }
+        column.put(row, recordFactory.apply(id).getPreAndPostValue());
+        size++;
+    }
+
+    void addIfAbsent(final PropertyChangeRecord record) {
+        addIfAbsent(record.getId(), __->record);
+    }
+
+    /**
+     * Captures the post-value of each record, that is its property's current value
+     * (or {@link PropertyValuePlaceholder#DELETED}, if the entity is no longer persistent),
+     * marking the record for publishing (retaining its post-value) if given {@code shouldPublish} holds;
+     * from then on, no further records can be added.
+     */
+    void capturePostValues(final Predicate<PreAndPostValue> shouldPublish) {
+        if(postValuesCaptured) {
+            return;
+        }
+        postValuesCaptured = true;
+        tablesBySpec.values().forEach(table->table.capturePostValues(shouldPublish));
+    }
+
+    /**
+     * The number of records marked for publishing by {@link #capturePostValues(Predicate)}.
+     */
+    int countForPublishing() {
+        assertPostValuesCaptured();
+        return publishingCount;
+    }
+
+    /**
+     * Lazily streams the records marked for publishing by {@link #capturePostValues(Predicate)},
+     * with their post-values set as captured.
+     */
+    Stream<PropertyChangeRecord> streamForPublishing() {
+        assertPostValuesCaptured();
+        return tablesBySpec.values().stream()
+                .flatMap(Table::streamForPublishing);
+    }
+
+    void clear() {
+        tablesBySpec.clear();
+        onHeapCount = 0;
+        size = 0;
+        postValuesCaptured = false;
+        publishingCount = 0;
+        if(spillFile!=null) {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+
+    // -- HELPER
+
+    private void assertPostValuesCaptured() {
+        if(!postValuesCaptured) {
+            throw _Exceptions.illegalState("post values have not yet been captured");
+        }
+    }
+
+    private boolean isSpilling() {
+        return spillThreshold > 0
+                && onHeapCount >= spillThreshold;
+    }
+
+    private _SpillFile spillFile() {
+        if(spillFile==null) {
+            spillFile = _SpillFile.create();
+        }
+        return spillFile;
+    }
+
+    private final class Table {
+
+        private final Map<Bookmark, Integer> rowByBookmark = _Maps.newHashMap();
+        private final Map<String, Column> columnByPropertyId = _Maps.newLinkedHashMap();
+        private ManagedObject[] entities = new ManagedObject[8];
+        private Bookmark[] bookmarks = new Bookmark[8];
+        private int rowCount;
+
+        int rowFor(final PropertyChangeRecordId id) {
+            return rowByBookmark.computeIfAbsent(id.getBookmark(), bookmark->{
+                if(rowCount == entities.length) {
+                    entities = Arrays.copyOf(entities, rowCount * 2);
+                    bookmarks = Arrays.copyOf(bookmarks, rowCount * 2);
+                }
+                entities[rowCount] = id.getEntity();
+                bookmarks[rowCount] = bookmark;
+                return rowCount++;
+            });
+        }
+
+        Column columnFor(final OneToOneAssociation property) {
+            return columnByPropertyId.computeIfAbsent(property.getId(), __->new Column(property));
+        }
+
+        void capturePostValues(final Predicate<PreAndPostValue> shouldPublish) {
+            for (int row = 0; row < rowCount; row++) {
+                val entity = entities[row];
+                val isDeleted = isDeleted(entity);
+                for (val column : columnByPropertyId.values()) {
+                    if(!column.isPresent(row)) {
+                        continue;
+                    }
+                    val preAndPostValue = column.preAndPostValue(entity, bookmarks[row], row, isDeleted);
+                    if(shouldPublish.test(preAndPostValue)) {
+                        column.markForPublishing(row, preAndPostValue.getPost());
+                        publishingCount++;
+                    }
+                }
+            }
+        }
+
+        Stream<PropertyChangeRecord> streamForPublishing() {
+            return IntStream.range(0, rowCount)
+                    .boxed()
+                    .flatMap(row->columnByPropertyId.values().stream()
+                            .filter(column->column.isMarkedForPublishing(row))
+                            .map(column->column.recordForPublishing(entities[row], bookmarks[row], row)));
+        }
+
+        private boolean isDeleted(final ManagedObject entity) {
+            return MmEntityUtils.getEntityState(entity).isTransientOrRemoved();
+        }
+    }
+
+    private final class Column {
+
+        private final OneToOneAssociation property;
+        /** the wrapper type, if the property is of primitive type, otherwise {@code null} */
+        private final Class<?> primitiveWrapperType;
+        /** the codec for spilling values, if supported for the property's type, otherwise {@code null} */
+        private final _SpillCodec spillCodec;
+
+        private byte[] states = new byte[8];
+        private final BitSet markedForPublishing = new BitSet();
+        private long[] primitivesOrSpillAddresses;
+        private Object[] preValues;
+        private String[] preStrings;
+        /** post-values of the rows marked for publishing, unless spilled */
+        private Object[] postValues;
+        private long[] postSpillAddresses;
+        private final BitSet postSpilled = new BitSet();
+
+        Column(final OneToOneAssociation property) {
+            this.property = property;
+            val type = property.getElementType().getCorrespondingClass();
+            this.primitiveWrapperType = type.isPrimitive()
+                    ? ClassUtils.resolvePrimitiveIfNecessary(type)
+                    : null;
+            this.spillCodec = _SpillCodec.forType(type).orElse(null);
+        }
+
+        boolean isPresent(final int row) {
+            return row < states.length
+                    && states[row] != ABSENT;
+        }
+
+        boolean isMarkedForPublishing(final int row) {
+            return markedForPublishing.get(row);
+        }
+
+        void markForPublishing(final int row, final Object postValue) {
+            markedForPublishing.set(row);
+            if(states[row] == SPILLED
+                    && spillCodec.canEncode(postValue)) {
+                if(postSpillAddresses==null) {
+                    postSpillAddresses = new long[states.length];
+                }
+                postSpillAddresses[row] = spillFile.append(spillCodec.encode(postValue));
+                postSpilled.set(row);
+            } else {
+                if(postValues==null) {
+                    postValues = new Object[states.length];
+                }
+                postValues[row] = postValue;
+            }
+        }
+
+        void put(final int row, final PreAndPostValue preAndPostValue) {
+            if(row >= states.length) {
+                grow(Math.max(row + 1, states.length * 2));
+            }
+            val pre = preAndPostValue.getPre();
+            if(pre == PropertyValuePlaceholder.NEW) {
+                states[row] = NEW;
+            } else if(pre == PropertyValuePlaceholder.UNKNOWN) {
+                states[row] = UNKNOWN;
+            } else if(primitiveWrapperType!=null
+                    && primitiveWrapperType.isInstance(pre)) {
+                longs()[row] = toBits(pre);
+                states[row] = PRIMITIVE;
+            } else if(spillCodec!=null
+                    && spillCodec.canEncode(pre)
+                    && isSpilling()) {
+                longs()[row] = spillFile().append(spillCodec.encode(pre));
+                states[row] = SPILLED;
+            } else {
+                if(preValues==null) {
+                    preValues = new Object[states.length];
+                    preStrings = new String[states.length];
+                }
+                preValues[row] = pre;
+                preStrings[row] = preAndPostValue.getPreString();
+                states[row] = ON_HEAP;
+                onHeapCount++;
+            }
+        }
+
+        /**
+         * The row's pre-value, along with its post-value as read from the entity's property.
+         */
+        PreAndPostValue preAndPostValue(
+                final ManagedObject entity,
+                final Bookmark bookmark,
+                final int row,
+                final boolean isDeleted) {
+            val record = PropertyChangeRecord.of(
+                    PropertyChangeRecordId.of(entity, property, bookmark),
+                    preValue(row));
+            return (isDeleted
+                    ? record.withPostValueSetToDeleted()
+                    : record.withPostValueSetToCurrentElseUnknown())
+                    .getPreAndPostValue();
+        }
+
+        /**
+         * The record of a row marked for publishing, with its post-value as captured.
+         */
+        PropertyChangeRecord recordForPublishing(
+                final ManagedObject entity,
+                final Bookmark bookmark,
+                final int row) {
+            return PropertyChangeRecord.of(
+                    PropertyChangeRecordId.of(entity, property, bookmark),
+                    preValue(row).withPost(postValue(row)));
+        }
+
+        private PreAndPostValue preValue(final int row) {
+            switch (states[row]) {
+            case NEW:
+                return PreAndPostValue.pre(PropertyValuePlaceholder.NEW);
+            case UNKNOWN:
+                return PreAndPostValue.pre(PropertyValuePlaceholder.UNKNOWN);
+            case PRIMITIVE:
+                return PreAndPostValue.pre(fromBits(primitivesOrSpillAddresses[row]));
+            case SPILLED:
+                return PreAndPostValue.pre(spillCodec.decode(spillFile.read(primitivesOrSpillAddresses[row])));
+            default:
+                return PreAndPostValue.pre(preValues[row], preStrings[row]);
+            }
+        }
+
+        private Object postValue(final int row) {
+            return postSpilled.get(row)
+                    ? spillCodec.decode(spillFile.read(postSpillAddresses[row]))
+                    : postValues[row];
+        }
+
+        private long[] longs() {
+            if(primitivesOrSpillAddresses==null) {
+                primitivesOrSpillAddresses = new long[states.length];
+            }
+            return primitivesOrSpillAddresses;
+        }
+
+        private void grow(final int capacity) {
+            states = Arrays.copyOf(states, capacity);
+            if(primitivesOrSpillAddresses!=null) {
+                primitivesOrSpillAddresses = Arrays.copyOf(primitivesOrSpillAddresses, capacity);
+            }
+            if(preValues!=null) {
+                preValues = Arrays.copyOf(preValues, capacity);
+                preStrings = Arrays.copyOf(preStrings, capacity);
+            }
+        }
+
+        private long toBits(final Object value) {
+            if(value instanceof Double) {
+                return Double.doubleToRawLongBits((Double) value);
+            }
+            if(value instanceof Float) {
+                return Float.floatToRawIntBits((Float) value);
+            }
+            if(value instanceof Boolean) {
+                return ((Boolean) value) ? 1L : 0L;
+            }
+            if(value instanceof Character) {
+                return (Character) value;
+            }
+            return ((Number) value).longValue();
+        }
+
+        private Object fromBits(final long bits) {
+            if(primitiveWrapperType == Double.class) {
+                return Double.longBitsToDouble(bits);
+            }
+            if(primitiveWrapperType == Float.class) {
+                return Float.intBitsToFloat((int) bits);
+            }
+            if(primitiveWrapperType == Boolean.class) {
+                return bits != 0L;
+            }
+            if(primitiveWrapperType == Character.class) {
+                return (char) bits;
+            }
+            if(primitiveWrapperType == Byte.class) {
+                return (byte) bits;
+            }
+            if(primitiveWrapperType == Short.class) {
+                return (short) bits;
+            }
+            if(primitiveWrapperType == Integer.class) {
+                return (int) bits;
+            }
+            return bits;
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lossless string encoding of the values of a specific type, as to be spilled to a {@link _SpillFile}.
+ * <p>
+ * Only supported for types whose values can be restored from their encoding as equal values
+ * (strings, boxed primitives, big numbers, common temporals, uuids and enums),
+ * such that restored pre-values are compared with their post-values by {@link Object#equals(Object)},
+ * rather than by string representation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class _SpillCodec {
+
+    private static final Map<Class<?>, Function<String, Object>> DECODERS_BY_TYPE = _Maps.newHashMap();
+    static {
+        DECODERS_BY_TYPE.put(String.class, string->string);
+        DECODERS_BY_TYPE.put(Boolean.class, Boolean::valueOf);
+        DECODERS_BY_TYPE.put(Character.class, string->string.charAt(0));
+        DECODERS_BY_TYPE.put(Byte.class, Byte::valueOf);
+        DECODERS_BY_TYPE.put(Short.class, Short::valueOf);
+        DECODERS_BY_TYPE.put(Integer.class, Integer::valueOf);
+        DECODERS_BY_TYPE.put(Long.class, Long::valueOf);
+        DECODERS_BY_TYPE.put(Float.class, Float::valueOf);
+        DECODERS_BY_TYPE.put(Double.class, Double::valueOf);
+        DECODERS_BY_TYPE.put(BigInteger.class, BigInteger::new);
+        DECODERS_BY_TYPE.put(BigDecimal.class, BigDecimal::new);
+        DECODERS_BY_TYPE.put(LocalDate.class, LocalDate::parse);
+        DECODERS_BY_TYPE.put(LocalTime.class, LocalTime::parse);
+        DECODERS_BY_TYPE.put(LocalDateTime.class, LocalDateTime::parse);
+        DECODERS_BY_TYPE.put(OffsetDateTime.class, OffsetDateTime::parse);
+        DECODERS_BY_TYPE.put(Instant.class, Instant::parse);
+        DECODERS_BY_TYPE.put(UUID.class, UUID::fromString);
+    }
+
+    private final Class<?> type;
+    private final Function<String, Object> decoder;
+
+    /**
+     * The codec for the values of given {@code type}, if supported.
+     */
+    static Optional<_SpillCodec> forType(final Class<?> type) {
+        if(type.isEnum()) {
+            return Optional.of(new _SpillCodec(type, name->enumConstant(type, name)));
+        }
+        return Optional.ofNullable(DECODERS_BY_TYPE.get(type))
+                .map(decoder->new _SpillCodec(type, decoder));
+    }
+
+    /**
+     * Whether given {@code value} is {@code null} or of exactly this codec's type,
+     * hence can be encoded losslessly (values of subtypes cannot).
+     */
+    boolean canEncode(final @Nullable Object value) {
+        return value==null
+                || value.getClass()==type
+                || (type.isEnum() && type.isInstance(value));
+    }
+
+    @Nullable String encode(final @Nullable Object value) {
+        if(value==null) {
+            return null;
+        }
+        return type.isEnum()
+                ? ((Enum<?>) value).name()
+                : value.toString();
+    }
+
+    @Nullable Object decode(final @Nullable String encoded) {
+        return encoded!=null
+                ? decoder.apply(encoded)
+                : null;
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object enumConstant(final Class<?> enumType, final String name) {
+        return Enum.valueOf((Class) enumType, name);
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Append-only store of strings, backed by a memory-mapped temporary file,
+ * that is deleted on {@link #close()}.
+ * <p>
+ * The file is mapped region by region, with no string spanning regions,
+ * hence addresses encode the region index (high int) and the position within that region (low int).
+ */
+@Log4j2
+final class _SpillFile implements AutoCloseable {
+
+    private static final int REGION_SIZE = 16 * 1024 * 1024;
+    private static final int NULL_LENGTH = -1;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Path path;
+    private final FileChannel channel;
+    private final int regionSize;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private long mappedSize;
+
+    static _SpillFile create() {
+        return create(REGION_SIZE);
+    }
+
+    /**
+     * Variant with a specific (minimum) size of the regions to map.
+     */
+    static _SpillFile create(final int regionSize) {
+        try {
+            val path = Files.createTempFile("causeway-entity-changes-", ".spill");
+            return new _SpillFile(path, FileChannel.open(path,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE),
+                    regionSize);
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e, "failed to create spill file for entity changes");
+        }
+    }
+
+    private _SpillFile(final Path path, final FileChannel channel, final int regionSize) {
+        this.path = path;
+        this.channel = channel;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * The number of regions mapped so far.
+     */
+    int regionCount() {
+        return regions.size();
+    }
+
+    /**
+     * Returns the address of given {@code string}, as appended.
+     */
+    long append(final @Nullable String string) {
+        val bytes = string!=null
+                ? string.getBytes(StandardCharsets.UTF_8)
+                : null;
+        val requiredSize = Integer.BYTES + (bytes!=null ? bytes.length : 0);
+        val region = regionWithRemaining(requiredSize);
+        val address = ((long)(regions.size() - 1) << 32) | region.position();
+        if(bytes!=null) {
+            region.putInt(bytes.length);
+            region.put(bytes);
+        } else {
+            region.putInt(NULL_LENGTH);
+        }
+        return address;
+    }
+
+    /**
+     * Returns the string previously appended at given {@code address}.
+     */
+    @Nullable String read(final long address) {
+        val region = regions.get((int)(address >>> 32)).duplicate();
+        region.position((int) address);
+        val length = region.getInt();
+        if(length==NULL_LENGTH) {
+            return null;
+        }
+        val bytes = new byte[length];
+        region.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        regions.clear(); // mappings are released once garbage collected
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("failed to close spill file {}", path, e);
+        }
+    }
+
+    // -- HELPER
+
+    private MappedByteBuffer regionWithRemaining(final int requiredSize) {
+        val current = regions.isEmpty()
+                ? null
+                : regions.get(regions.size() - 1);
+        if(current!=null
+                && current.remaining() >= requiredSize) {
+            return current;
+        }
+        val size = Math.max(regionSize, requiredSize);
+        try {
+            val region = channel.map(FileChannel.MapMode.READ_WRITE, mappedSize, size);
+            mappedSize += size;
+            regions.add(region);
+            return region;
+        } catch (IOException e) {
+            throw _Exceptions.unrecoverable(e, "failed to map region of spill file %s", path);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+import org.apache.causeway.commons.internal.reflection._Reflect.InterfacePolicy;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Partitions entity types into groups of related types, where related means of the same type hierarchy or
+ * associated with each other (in either direction), directly or transitively via any other types.
+ * <p>
+ * Supports {@link RepositoryServiceDefault} in deciding whether pending changes to entities of one type
+ * might affect the result of a query for another type, eg. a JPQL or JDOQL query navigating multiple
+ * associations.
+ * <p>
+ * Only associations are considered, not what a query's filter refers to: a JPQL or JDOQL (sub)query
+ * for one type, that refers to some other type it is not related to (eg. {@code EXISTS (SELECT ...)}
+ * or JDOQL variables), might see stale data, if the auto-flush is skipped.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class RelatedEntityTypes {
+
+    /**
+     * Groups the entity types of given {@code specs}, based on their (non mixed-in) associations
+     * referencing entities or abstract types.
+     */
+    static RelatedEntityTypes of(final @NonNull Can<ObjectSpecification> specs) {
+        val associatedTypesByType = new HashMap<Class<?>, List<Class<?>>>();
+        specs.stream()
+            .filter(ObjectSpecification::isEntity)
+            .forEach(spec->associatedTypesByType.put(
+                    spec.getCorrespondingClass(),
+                    spec.streamAssociations(MixedIn.EXCLUDED)
+                        .map(association->association.getElementType())
+                        .filter(elementType->elementType.isEntity()
+                                || elementType.isAbstract())
+                        .map(ObjectSpecification::getCorrespondingClass)
+                        .collect(Collectors.toList())));
+        return of(associatedTypesByType);
+    }
+
+    /**
+     * Groups given entity types and the types they are associated with.
+     */
+    static RelatedEntityTypes of(
+            final @NonNull Map<Class<?>, ? extends Collection<Class<?>>> associatedTypesByType) {
+
+        // union-find, with each group represented by its root type
+        val parentByType = new HashMap<Class<?>, Class<?>>();
+        associatedTypesByType.forEach((type, associatedTypes)->{
+            parentByType.putIfAbsent(type, type);
+            associatedTypes.forEach(associatedType->{
+                parentByType.putIfAbsent(associatedType, associatedType);
+                union(parentByType, type, associatedType);
+            });
+        });
+
+        // same type hierarchy: walks up from each type, rather than comparing all pairs of types
+        val types = new ArrayList<Class<?>>(parentByType.keySet());
+        types.forEach(type->
+            _Reflect.streamTypeHierarchy(type, InterfacePolicy.INCLUDE)
+                .filter(parentByType::containsKey)
+                .forEach(supertype->union(parentByType, type, supertype)));
+
+        val groupByType = new HashMap<Class<?>, Class<?>>();
+        types.forEach(type->groupByType.put(type, rootOf(parentByType, type)));
+        return new RelatedEntityTypes(Collections.unmodifiableMap(groupByType));
+    }
+
+    private final Map<Class<?>, Class<?>> groupByType;
+
+    /**
+     * Whether pending changes to entities of type {@code changedType} might affect the result of a query
+     * for {@code resultType}.
+     * <p>
+     * Types not known (eg. not introspected as entities) are considered related to any type.
+     */
+    boolean isRelated(final @NonNull Class<?> resultType, final @NonNull Class<?> changedType) {
+        val resultGroup = groupOf(resultType);
+        val changedGroup = groupOf(changedType);
+        return resultGroup==null
+                || changedGroup==null
+                || resultGroup==changedGroup;
+    }
+
+    // -- HELPER
+
+    private @Nullable Class<?> groupOf(final Class<?> type) {
+        return groupByType.get(type);
+    }
+
+    private static void union(final Map<Class<?>, Class<?>> parentByType, final Class<?> a, final Class<?> b) {
+        val rootOfA = rootOf(parentByType, a);
+        val rootOfB = rootOf(parentByType, b);
+        if(rootOfA!=rootOfB) {
+            parentByType.put(rootOfA, rootOfB);
+        }
+    }
+
+    private static Class<?> rootOf(final Map<Class<?>, Class<?>> parentByType, final Class<?> type) {
+        Class<?> root = type;
+        while(parentByType.get(root)!=root) {
+            root = parentByType.get(root);
+        }
+        // path compression
+        Class<?> current = type;
+        while(current!=root) {
+            val parent = parentByType.get(current);
+            parentByType.put(current, root);
+            current = parent;
+        }
+        return root;
+    }
+
+}
@@ -25,20 +25,26 @@
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Named;
+import javax.inject.Provider;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
 import org.apache.causeway.applib.exceptions.unrecoverable.PersistFailedException;
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.iactn.InteractionProvider;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -53,8 +59,10 @@
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
+import org.apache.causeway.core.metamodel.objectmanager.QueryResultList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
+import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
 
 import lombok.Getter;
@@ -62,26 +70,32 @@
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 @Service
 @Named(CausewayModulePersistenceCommons.NAMESPACE + ".RepositoryServiceDefault")
 @Priority(PriorityPrecedence.EARLY)
 @Qualifier("Default")
 @RequiredArgsConstructor
-//@Log4j2
+@Log4j2
 public class RepositoryServiceDefault
-implements RepositoryService, HasMetaModelContext {
+implements RepositoryService, HasMetaModelContext, MetamodelListener {
 
     final FactoryService factoryService;
     final WrapperFactory wrapperFactory;
     final TransactionService transactionService;
     final CausewayConfiguration causewayConfiguration;
+    final Provider<InteractionProvider> interactionProviderProvider;
+    final Provider<EntityChangeTracker> entityChangeTrackerProvider;
 
     @Getter(onMethod_ = {@Override})
     final MetaModelContext metaModelContext;
 
     private ThreadLocal<Boolean> suppressFlush = ThreadLocal.withInitial(() -> Boolean.FALSE);
     private boolean autoFlush;
+    private boolean skipAutoFlushForUnrelatedTypes;
+    private volatile RelatedEntityTypes relatedEntityTypes;
+    private int predicateScanWarnThreshold;
 
     @PostConstruct
     public void init() {
@@ -89,6 +103,10 @@ public void init() {
                 causewayConfiguration.getPersistence().getCommons().getRepositoryService().isDisableAutoFlush() ||
                 causewayConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.skipAutoFlushForUnrelatedTypes =
+                causewayConfiguration.getPersistence().getCommons().getRepositoryService().isSkipAutoFlushForUnrelatedTypes();
+        this.predicateScanWarnThreshold =
+                causewayConfiguration.getPersistence().getCommons().getRepositoryService().getPredicateScanWarnThreshold();
     }
 
     @Override
@@ -119,7 +137,7 @@ private void suppressFlushing() {
 
     private void resumeFlushing() {
         this.suppressFlush.remove();
-        transactionService.flushTransaction();
+        flushTransaction();
     }
 
     @Override
@@ -135,6 +153,7 @@ public <T> T persist(final T domainObject) {
                 || entityState.isAttached()) {
             return domainObject;
         }
+        entityChangeTracker().ifPresent(entityChangeTracker->entityChangeTracker.recognizeChanging(adapter));
         MmEntityUtils.persistInCurrentTransaction(adapter);
         return domainObject;
     }
@@ -144,7 +163,7 @@ public <T> T persist(final T domainObject) {
     public <T> T persistAndFlush(final T object) {
         persist(object);
         if (!suppressFlush.get()) {
-            transactionService.flushTransaction();
+            flushTransaction();
         }
         return object;
     }
@@ -156,6 +175,7 @@ public void remove(final Object domainObject) {
         }
         val adapter = getObjectManager().adapt(unwrapped(domainObject));
         if(MmEntityUtils.getEntityState(adapter).hasOid()) {
+            entityChangeTracker().ifPresent(entityChangeTracker->entityChangeTracker.recognizeChanging(adapter));
             MmEntityUtils.deleteInCurrentTransaction(adapter);
         }
     }
@@ -164,7 +184,7 @@ public void remove(final Object domainObject) {
     public void removeAndFlush(final Object domainObject) {
         remove(domainObject);
         if (!suppressFlush.get()) {
-            transactionService.flushTransaction();
+            flushTransaction();
         }
     }
 
@@ -190,7 +210,9 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
+        val instances = allInstances(ofType, start, count);
+        warnIfScannedTooMany(ofType, instances);
+        return _NullSafe.stream(instances)
                 .filter(predicate)
                 .collect(Collectors.toCollection(ArrayList::new));
     }
@@ -198,12 +220,45 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Query<T> query) {
-        if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
-            transactionService.flushTransaction();
-        }
+        autoFlushIfRequired(query.getResultType());
         return submitQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+
+        val entityFacet = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .flatMap(ObjectSpecification::entityFacet)
+                .orElse(null);
+
+        if(entityFacet==null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            // not an entity, or no transaction to bind a cursor to
+            return RepositoryService.super.streamMatches(query);
+        }
+
+        autoFlushIfRequired(query.getResultType());
+
+        val streamMatchesConfig = causewayConfiguration.getPersistence().getCommons().getRepositoryService()
+                .getStreamMatches();
+
+        val stream = entityFacet
+                .streamByQuery(query, streamMatchesConfig.getFetchSize(), streamMatchesConfig.getDetachEvery())
+                .map(MmUnwrapUtils::single)
+                .map(_Casts::<T>uncheckedCast);
+
+        // release the cursor latest with the transaction, in case the caller does not close the stream
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                stream.close();
+            }
+        });
+
+        return stream;
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         val resultTypeSpec = getSpecificationLoader()
                 .specForType(query.getResultType())
@@ -216,7 +271,8 @@ <T> List<T> submitQuery(final Query<T> query) {
         val queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
         val allMatching = getObjectManager().queryObjects(queryRequest);
         final List<T> resultList = _Casts.uncheckedCast(MmUnwrapUtils.multipleAsList(allMatching));
-        return resultList;
+        // remembers the query, in support of viewers paging through the result, if returned by an action
+        return QueryResultList.of(query, resultList);
     }
 
     @Override
@@ -231,7 +287,8 @@ public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predi
 
     @Override
     public <T> Optional<T> uniqueMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query); // No need to fetch more than 2.
+        // no need to fetch more than 2
+        final List<T> instances = allMatches(query.withRange(limitedTo(query.getRange(), 2L)));
         if (instances.size() > 1) {
             throw new RepositoryException("Found more that one instance for query:" + query.getDescription());
         }
@@ -247,7 +304,7 @@ public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predic
 
     @Override
     public <T> Optional<T> firstMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query);
+        final List<T> instances = allMatches(query.withRange(limitedTo(query.getRange(), 1L)));
         return firstInstanceElseEmpty(instances);
     }
 
@@ -284,8 +341,79 @@ public <T> void removeAll(final Class<T> cls) {
 
     }
 
+    // -- FLUSHING
+
+    private void autoFlushIfRequired(final Class<?> resultType) {
+        if(!autoFlush
+                || FlushMgmt.isAutoFlushSuppressed()
+                || suppressFlush.get()) {
+            return;
+        }
+        if(skipAutoFlushForUnrelatedTypes) {
+            val entityChangeTracker = entityChangeTracker().orElse(null);
+            val relatedEntityTypes = this.relatedEntityTypes; // null until the metamodel is loaded
+            if(entityChangeTracker!=null
+                    && relatedEntityTypes!=null
+                    && !entityChangeTracker.hasChangedEntityTypeMatching(
+                            changedType->relatedEntityTypes.isRelated(resultType, changedType))) {
+                entityChangeTracker.incrementFlushesSkipped();
+                return;
+            }
+        }
+        flushTransaction();
+    }
+
+    private void flushTransaction() {
+        transactionService.flushTransaction();
+        entityChangeTracker().ifPresent(EntityChangeTracker::incrementFlushesPerformed);
+    }
+
+    /**
+     * Only while in a transaction, otherwise there is nothing pending to flush.
+     */
+    private Optional<EntityChangeTracker> entityChangeTracker() {
+        return interactionProviderProvider.get().isInInteraction()
+                && transactionService.currentTransactionState().isInProgress()
+                ? Optional.of(entityChangeTrackerProvider.get())
+                : Optional.empty();
+    }
+
+    // -- METAMODEL LISTENER
+
+    @Override
+    public void onMetamodelAboutToBeLoaded() {
+        this.relatedEntityTypes = null;
+    }
+
+    /**
+     * Computes the groups of (transitively) related entity types only once, as all entity types are
+     * introspected by the time the metamodel is loaded, irrespective of the introspection mode.
+     */
+    @Override
+    public void onMetamodelLoaded() {
+        if(skipAutoFlushForUnrelatedTypes) {
+            this.relatedEntityTypes = RelatedEntityTypes.of(getSpecificationLoader().snapshotSpecifications());
+        }
+    }
+
     // -- HELPER
 
+    private static QueryRange limitedTo(final QueryRange range, final long maxLimit) {
+        return range.hasLimit()
+                && range.getLimit() <= maxLimit
+                ? range
+                : range.withLimit(maxLimit);
+    }
+
+    private void warnIfScannedTooMany(final Class<?> type, final @Nullable List<?> instances) {
+        if(predicateScanWarnThreshold > 0
+                && _NullSafe.size(instances) > predicateScanWarnThreshold) {
+            log.warn("predicate based query scanned {} instances of {} in memory; "
+                    + "consider using a CriteriaQuery instead (see Query.where(...))",
+                    _NullSafe.size(instances), type.getName());
+        }
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
@@ -0,0 +1,292 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+class PropertyChangeRecordStoreTest {
+
+    /** a (non-primitive) value type, whose string representation differs from its pojo */
+    @RequiredArgsConstructor
+    static class Name {
+        final String value;
+        @Override public String toString() { return "Name[" + value + "]"; }
+        @Override public boolean equals(final Object obj) {
+            return obj instanceof Name && ((Name) obj).value.equals(value);
+        }
+        @Override public int hashCode() { return value.hashCode(); }
+    }
+
+    /** an enum, whose constants share their string representation */
+    enum Level {
+        LOW, HIGH;
+        @Override public String toString() { return "Level"; }
+    }
+
+    private final ObjectSpecification entitySpec = mock(ObjectSpecification.class);
+    private final Map<String, OneToOneAssociation> propertiesById = new HashMap<>();
+    /** current property values, by bookmark identifier and property id */
+    private final Map<String, Object> currentValues = new HashMap<>();
+    private final Map<ManagedObject, String> idsByEntity = new HashMap<>();
+
+    private _PropertyChangeRecordStore store;
+
+    @AfterEach
+    void tearDown() {
+        if(store!=null) {
+            store.clear();
+        }
+    }
+
+    @Test
+    void primitives_round_trip() {
+        store = new _PropertyChangeRecordStore(0);
+        val entity = entity("1");
+        enlist(entity, property("anInt", int.class), 42);
+        enlist(entity, property("aLong", long.class), Long.MIN_VALUE);
+        enlist(entity, property("aDouble", double.class), -0.5d);
+        enlist(entity, property("aFloat", float.class), Float.MAX_VALUE);
+        enlist(entity, property("aBoolean", boolean.class), true);
+        enlist(entity, property("aChar", char.class), 'x');
+        enlist(entity, property("aByte", byte.class), (byte) -1);
+        enlist(entity, property("aShort", short.class), (short) 12345);
+
+        // when changing one only
+        currentValues.put("1#aDouble", 0.5d);
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        // then pre values are restored (boxed) to their exact type, hence unchanged ones compare equal
+        assertEquals(1, store.countForPublishing());
+        val record = store.streamForPublishing().collect(Collectors.toList()).get(0);
+        assertEquals("aDouble", record.getPropertyId());
+        assertEquals(-0.5d, record.getPreAndPostValue().getPre());
+        assertEquals(0.5d, record.getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void count_and_stream_only_changed() {
+        store = new _PropertyChangeRecordStore(0);
+        val name = property("name", Name.class);
+        for (int i = 0; i < 5; i++) {
+            enlist(entity("" + i), name, new Name("name-" + i));
+        }
+        currentValues.put("1#name", new Name("changed-1"));
+        currentValues.put("3#name", new Name("changed-3"));
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        assertEquals(5, store.size());
+        assertEquals(2, store.countForPublishing());
+        assertEquals(List.of("Name[changed-1]", "Name[changed-3]"), postStrings());
+    }
+
+    @Test
+    void spill_threshold_crossed_mid_transaction() {
+        store = new _PropertyChangeRecordStore(2);
+        val name = property("name", String.class);
+        for (int i = 0; i < 4; i++) {
+            enlist(entity("" + i), name, "name-" + i);
+        }
+        // later enlisted records are spilled, while earlier ones are kept on-heap
+
+        // change one on-heap, one spilled
+        currentValues.put("0#name", "changed-0");
+        currentValues.put("3#name", "changed-3");
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        // then unchanged spilled ones are restored as equal, hence not published
+        assertEquals(2, store.countForPublishing());
+        val records = store.streamForPublishing().collect(Collectors.toList());
+        assertEquals(List.of("name-0", "name-3"), records.stream()
+                .map(record->record.getPreAndPostValue().getPre())
+                .collect(Collectors.toList()));
+        assertEquals(List.of("changed-0", "changed-3"), postStrings());
+    }
+
+    @Test
+    void spilled_values_compared_by_type_rather_than_string() {
+        store = new _PropertyChangeRecordStore(1);
+        val level = property("level", Level.class);
+        for (int i = 0; i < 3; i++) {
+            enlist(entity("" + i), level, Level.LOW);
+        }
+        // change a spilled one, to a value of same string representation
+        currentValues.put("2#level", Level.HIGH);
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        assertEquals(1, store.countForPublishing());
+        val preAndPostValue = store.streamForPublishing().findFirst().orElseThrow().getPreAndPostValue();
+        assertEquals(Level.LOW, preAndPostValue.getPre());
+        assertEquals(Level.HIGH, preAndPostValue.getPost());
+    }
+
+    @Test
+    void values_not_encodable_are_kept_on_heap() {
+        store = new _PropertyChangeRecordStore(1);
+        val name = property("name", Name.class);
+        for (int i = 0; i < 3; i++) {
+            enlist(entity("" + i), name, new Name("name-" + i));
+        }
+        currentValues.put("2#name", new Name("changed-2"));
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        // then pre values are retained as is, rather than as string
+        assertEquals(1, store.countForPublishing());
+        val preAndPostValue = store.streamForPublishing().findFirst().orElseThrow().getPreAndPostValue();
+        assertEquals(new Name("name-2"), preAndPostValue.getPre());
+        assertEquals(new Name("changed-2"), preAndPostValue.getPost());
+    }
+
+    @Test
+    void post_values_read_once() {
+        store = new _PropertyChangeRecordStore(1);
+        val name = property("name", String.class);
+        for (int i = 0; i < 3; i++) {
+            enlist(entity("" + i), name, "name-" + i);
+        }
+        // reading pre values
+        verify(name, times(3)).get(any(ManagedObject.class), eq(InteractionInitiatedBy.FRAMEWORK));
+        currentValues.put("0#name", "changed-0");
+        currentValues.put("2#name", "changed-2");
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        assertEquals(List.of("changed-0", "changed-2"), postStrings());
+        assertEquals(List.of("changed-0", "changed-2"), postStrings());
+        // reading post values, once each
+        verify(name, times(6)).get(any(ManagedObject.class), eq(InteractionInitiatedBy.FRAMEWORK));
+    }
+
+    @Test
+    void deleted() {
+        store = new _PropertyChangeRecordStore(0);
+        val entity = entity("1");
+        enlist(entity, property("name", Name.class), new Name("name-1"));
+        when(entity.getEntityState()).thenReturn(EntityState.REMOVED);
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        assertEquals(1, store.countForPublishing());
+        assertEquals(PropertyValuePlaceholder.DELETED,
+                store.streamForPublishing().findFirst().orElseThrow().getPreAndPostValue().getPost());
+    }
+
+    @Test
+    void cannot_add_once_post_values_captured() {
+        store = new _PropertyChangeRecordStore(0);
+        val entity = entity("1");
+        val name = property("name", Name.class);
+        enlist(entity, name, new Name("name-1"));
+
+        store.capturePostValues(PreAndPostValue::shouldPublish);
+
+        assertThrows(IllegalStateException.class, ()->
+            enlist(entity("2"), name, new Name("name-2")));
+    }
+
+    @Test
+    void cannot_count_before_post_values_captured() {
+        store = new _PropertyChangeRecordStore(0);
+        assertThrows(IllegalStateException.class, store::countForPublishing);
+        assertThrows(IllegalStateException.class, store::streamForPublishing);
+    }
+
+    // -- HELPER
+
+    private List<String> postStrings() {
+        return store.streamForPublishing()
+                .map(record->record.getPreAndPostValue().getPostString())
+                .collect(Collectors.toList());
+    }
+
+    private ManagedObject entity(final String id) {
+        val entity = mock(ManagedObject.class);
+        when(entity.getSpecification()).thenReturn(entitySpec);
+        when(entity.getEntityState()).thenReturn(EntityState.ATTACHED);
+        idsByEntity.put(entity, id);
+        return entity;
+    }
+
+    private OneToOneAssociation property(final String propertyId, final Class<?> type) {
+        return propertiesById.computeIfAbsent(propertyId, __->{
+            val elementType = mock(ObjectSpecification.class);
+            doReturn(type).when(elementType).getCorrespondingClass();
+
+            val property = mock(OneToOneAssociation.class);
+            when(property.getId()).thenReturn(propertyId);
+            when(property.getElementType()).thenReturn(elementType);
+            when(property.get(any(ManagedObject.class), eq(InteractionInitiatedBy.FRAMEWORK))).thenAnswer(invocation->{
+                val entity = invocation.getArgument(0, ManagedObject.class);
+                return adapterFor(currentValues.get(idsByEntity.get(entity) + "#" + propertyId));
+            });
+            return property;
+        });
+    }
+
+    private void enlist(
+            final ManagedObject entity,
+            final OneToOneAssociation property,
+            final Object currentValue) {
+        val id = idsByEntity.get(entity);
+        currentValues.put(id + "#" + property.getId(), currentValue);
+        store.addIfAbsent(
+                PropertyChangeRecordId.of(entity, property, Bookmark.forLogicalTypeNameAndIdentifier("test.Entity", id)),
+                PropertyChangeRecord::ofCurrent);
+    }
+
+    private static ManagedObject adapterFor(final Object pojo) {
+        val adapter = mock(ManagedObject.class);
+        when(adapter.getPojo()).thenReturn(pojo);
+        return adapter;
+    }
+
+}
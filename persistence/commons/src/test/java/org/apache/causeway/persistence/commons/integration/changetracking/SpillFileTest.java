@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class SpillFileTest {
+
+    private _SpillFile spillFile;
+
+    @AfterEach
+    void tearDown() {
+        if(spillFile!=null) {
+            spillFile.close();
+        }
+    }
+
+    @Test
+    void round_trip() {
+        spillFile = _SpillFile.create();
+
+        val hello = spillFile.append("hello");
+        val empty = spillFile.append("");
+        val none = spillFile.append(null);
+        val unicode = spillFile.append("Grüße, 世界");
+
+        assertEquals("hello", spillFile.read(hello));
+        assertEquals("", spillFile.read(empty));
+        assertNull(spillFile.read(none));
+        assertEquals("Grüße, 世界", spillFile.read(unicode));
+        assertEquals(1, spillFile.regionCount());
+    }
+
+    @Test
+    void round_trip_across_regions() {
+        // room for 2 strings of 10 bytes (each prefixed by its length) per region
+        spillFile = _SpillFile.create(2 * (Integer.BYTES + 10));
+
+        val strings = new ArrayList<String>();
+        val addresses = new ArrayList<Long>();
+        for (int i = 0; i < 7; i++) {
+            val string = String.format("string-%03d", i);
+            strings.add(string);
+            addresses.add(spillFile.append(string));
+        }
+
+        assertEquals(4, spillFile.regionCount());
+        assertStrings(strings, addresses);
+    }
+
+    @Test
+    void round_trip_exceeding_region_size() {
+        spillFile = _SpillFile.create(16);
+
+        val small = spillFile.append("small");
+        val large = "large".repeat(100);
+        val largeAddress = spillFile.append(large);
+        val smallAgain = spillFile.append("small again");
+
+        assertStrings(
+                List.of("small", large, "small again"),
+                List.of(small, largeAddress, smallAgain));
+    }
+
+    @Test
+    void deleted_on_close() {
+        spillFile = _SpillFile.create();
+        spillFile.append("hello");
+        val path = spillFile.getPath();
+        assertTrue(Files.exists(path));
+
+        spillFile.close();
+
+        assertFalse(Files.exists(path));
+    }
+
+    // -- HELPER
+
+    private void assertStrings(final List<String> expected, final List<Long> addresses) {
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), spillFile.read(addresses.get(i)));
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelatedEntityTypesTest {
+
+    // Customer -> Order -> OrderLine -> Product <- SpecialProduct
+    static class Customer {}
+    static class Order {}
+    static class OrderLine {}
+    static class Product {}
+    static class SpecialProduct extends Product {}
+
+    // Note -> Attachable <- Document
+    static class Note {}
+    interface Attachable {}
+    static class Document implements Attachable {}
+
+    static class AuditEntry {}
+
+    private RelatedEntityTypes relatedEntityTypes;
+
+    @BeforeEach
+    void setUp() {
+        final Map<Class<?>, List<Class<?>>> associatedTypesByType = Map.of(
+                Customer.class, List.of(),
+                Order.class, List.of(Customer.class, OrderLine.class),
+                OrderLine.class, List.of(Product.class),
+                Product.class, List.of(),
+                SpecialProduct.class, List.of(),
+                Note.class, List.of(Attachable.class),
+                Document.class, List.of(),
+                AuditEntry.class, List.of());
+        relatedEntityTypes = RelatedEntityTypes.of(associatedTypesByType);
+    }
+
+    @Test
+    void related_when_same_type() {
+        assertTrue(relatedEntityTypes.isRelated(Order.class, Order.class));
+    }
+
+    @Test
+    void related_when_directly_associated_in_either_direction() {
+        assertTrue(relatedEntityTypes.isRelated(Order.class, OrderLine.class));
+        assertTrue(relatedEntityTypes.isRelated(OrderLine.class, Order.class));
+    }
+
+    @Test
+    void related_when_same_hierarchy() {
+        assertTrue(relatedEntityTypes.isRelated(Product.class, SpecialProduct.class));
+        assertTrue(relatedEntityTypes.isRelated(SpecialProduct.class, Product.class));
+        assertTrue(relatedEntityTypes.isRelated(Note.class, Document.class));
+    }
+
+    @Test
+    void related_when_associated_via_multiple_hops() {
+        // eg. select customers having ordered a product, while a product has changed
+        assertTrue(relatedEntityTypes.isRelated(Customer.class, Product.class));
+        assertTrue(relatedEntityTypes.isRelated(Product.class, Customer.class));
+        // including hops via a subtype
+        assertTrue(relatedEntityTypes.isRelated(Customer.class, SpecialProduct.class));
+    }
+
+    @Test
+    void unrelated_when_neither_associated_nor_same_hierarchy() {
+        assertFalse(relatedEntityTypes.isRelated(Customer.class, AuditEntry.class));
+        assertFalse(relatedEntityTypes.isRelated(AuditEntry.class, Product.class));
+        assertFalse(relatedEntityTypes.isRelated(Customer.class, Document.class));
+        assertFalse(relatedEntityTypes.isRelated(Note.class, OrderLine.class));
+    }
+
+    @Test
+    void related_when_unknown() {
+        assertTrue(relatedEntityTypes.isRelated(Customer.class, Object.class));
+        assertTrue(relatedEntityTypes.isRelated(String.class, AuditEntry.class));
+    }
+
+}
@@ -19,26 +19,38 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
 import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
+import javax.jdo.identity.SingleFieldIdentity;
 
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.identity.SingleFieldId;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.CriteriaQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryCriterion;
+import org.apache.causeway.applib.query.QueryOrdering;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.exceprecog.Category;
 import org.apache.causeway.applib.services.exceprecog.ExceptionRecognizerService;
@@ -47,6 +59,7 @@
 import org.apache.causeway.applib.services.xactn.TransactionalProcessor;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -55,6 +68,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityStreams;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
@@ -106,6 +120,11 @@
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getPersistenceManager(), entityClass);
 
+    // lazily looks up the primary key member, if a single one (needs a PersistenceManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE)
+    private final Optional<String> primaryKeyMemberName =
+            _MetadataUtil.primaryKeyMemberNameFor(getPersistenceManager(), entityClass);
+
     public JdoEntityFacet(
             final FacetHolder holder, final Class<?> entityClass) {
         super(EntityFacet.class, holder);
@@ -215,6 +234,74 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches (in chunks of at most {@link #FETCH_BY_BOOKMARKS_CHUNK_SIZE}) all entities
+     * with a single JDOQL {@code :keys.contains(...)} query,
+     * unless the entity does not have a single primary key member.
+     * Any entities not found that way are fetched one by one.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(!bookmarks.isCardinalityMultiple()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        val primaryKeyMemberName = getPrimaryKeyMemberName().orElse(null);
+        if(primaryKeyMemberName==null) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceManager = getPersistenceManager();
+        val entitiesByIdentifier = new HashMap<String, Object>();
+
+        bookmarks.partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+        .forEach(chunk->{
+            final List<Object> keys = chunk
+                    .map(bookmark->keyOf(primaryKeyTypeForDecoding().destring(bookmark.getIdentifier())))
+                    .toList();
+
+            val jdoQuery = persistenceManager.newQuery(entityClass);
+            jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            jdoQuery.setFilter(":keys.contains(this." + primaryKeyMemberName + ")");
+            jdoQuery.setNamedParameters(Map.of("keys", keys));
+
+            fetchWithinTransaction(jdoQuery::executeList)
+            .forEach(entity->identifierFor(entity.getPojo())
+                    .ifPresent(identifier->entitiesByIdentifier.put(identifier, entity.getPojo())));
+        });
+
+        final Map<Bookmark, Object> entitiesByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->{
+            final Optional<Object> entityIfAny = Optional.ofNullable(entitiesByIdentifier.get(bookmark.getIdentifier()))
+                    // eg. not yet flushed
+                    .or(()->fetchByBookmark(bookmark));
+            entityIfAny.ifPresent(entity->entitiesByBookmark.put(bookmark, entity));
+        });
+        return entitiesByBookmark;
+    }
+
+    /**
+     * Upper bound for the number of elements within an {@code IN (...)} clause,
+     * as some databases restrict these.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
+    /**
+     * The (application identity) key value, as used within JDOQL, of given primary key.
+     */
+    private static Object keyOf(final Object primaryKey) {
+        if(primaryKey instanceof SingleFieldId) {
+            return ((SingleFieldId<?, ?>) primaryKey).getKeyAsObject();
+        }
+        if(primaryKey instanceof SingleFieldIdentity) {
+            return ((SingleFieldIdentity<?>) primaryKey).getKeyAsObject();
+        }
+        return primaryKey;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -234,6 +321,11 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             val persistenceManager = getPersistenceManager();
 
+            if(!query.getOrderings().isEmpty()) {
+                // typed queries require generated Q classes to order by, hence use a (string based) JDOQL query
+                return fetchUsingJdoql(queryEntityType, List.of(), query.getOrderings(), range);
+            }
+
             val typedQuery = persistenceManager.newJDOQLTypedQuery(queryEntityType);
             typedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
 
@@ -249,41 +341,24 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
             return resultList;
 
-        } else if(query instanceof NamedQuery) {
-
-            val applibNamedQuery = (NamedQuery<?>) query;
-            val queryResultType = applibNamedQuery.getResultType();
+        } else if(query instanceof CriteriaQuery) {
 
-            val persistenceManager = getPersistenceManager();
+            val criteriaQuery = (CriteriaQuery<?>) query;
+            val queryEntityType = criteriaQuery.getResultType();
 
-            val namedParams = _Maps.<String, Object>newHashMap();
-            val namedQuery = persistenceManager.newNamedQuery(queryResultType, applibNamedQuery.getName())
-                    .setNamedParameters(namedParams);
-
-            namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
 
-            if(!range.isUnconstrained()) {
-                namedQuery.range(range.getStart(), range.getEnd());
+            if(hasEmptyInCriterion(criteriaQuery.getCriteria())) {
+                return Can.empty();
             }
 
-            // inject services into query params; not sure if required (might be redundant)
-            {
-                val injector = getServiceInjector();
-
-                applibNamedQuery
-                .getParametersByName()
-                .values()
-                .forEach(injector::injectServicesInto);
-            }
+            return fetchUsingJdoql(queryEntityType, criteriaQuery.getCriteria(), query.getOrderings(), range);
 
-            applibNamedQuery
-                .getParametersByName()
-                .forEach(namedParams::put);
+        } else if(query instanceof NamedQuery) {
 
-            Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
-                    ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
-                    : namedQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
-            val resultList = fetchWithinTransaction(executeMethod);
+            val namedQuery = newNamedQuery((NamedQuery<?>) query);
+            val resultList = fetchWithinTransaction(executeMethodOf(namedQuery));
 
             if(range.hasLimit()) {
                 _Assert.assertTrue(resultList.size()<=range.getLimit());
@@ -297,6 +372,313 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int detachEvery) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {}", query.getDescription());
+        }
+
+        final javax.jdo.Query<?> jdoQuery;
+
+        if(query instanceof AllInstancesQuery
+                || query instanceof CriteriaQuery) {
+
+            val queryEntityType = query.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            if(query instanceof CriteriaQuery
+                    && hasEmptyInCriterion(((CriteriaQuery<?>) query).getCriteria())) {
+                return Stream.empty();
+            }
+
+            jdoQuery = newJdoqlQuery(
+                    queryEntityType,
+                    query instanceof CriteriaQuery
+                        ? ((CriteriaQuery<?>) query).getCriteria()
+                        : List.of(),
+                    query.getOrderings(),
+                    query.getRange());
+
+        } else if(query instanceof NamedQuery) {
+
+            jdoQuery = newNamedQuery((NamedQuery<?>) query);
+
+        } else {
+            throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                    query.getClass(),
+                    query.getDescription());
+        }
+
+        // have DataNucleus load results lazily from the (forward only) result set,
+        // and not retain consumed results beyond their softly referenced cache entries
+        if(fetchSize>0) {
+            jdoQuery.getFetchPlan().setFetchSize(fetchSize);
+        }
+        jdoQuery.extension("datanucleus.query.resultCacheType", "soft");
+        jdoQuery.extension("datanucleus.query.loadResultsAtCommit", "false");
+
+        val persistenceManager = getPersistenceManager();
+        final List<Object> lazyResults = _Casts.uncheckedCast(executeMethodOf(jdoQuery).get());
+
+        return EntityStreams.chunked(lazyResults.iterator(), detachEvery,
+                    consumed->{
+                        val persistables = consumed.stream()
+                                .filter(Persistable.class::isInstance)
+                                .collect(Collectors.toList());
+                        if(persistables.isEmpty()) {
+                            return; // eg. scalar or projection results, nothing to evict
+                        }
+                        persistenceManager.flush(); // eviction only applies to clean instances
+                        persistenceManager.evictAll(persistables);
+                    },
+                    jdoQuery::closeAll)
+                .map(fetchedObject->adapt(objectLifecyclePublisher, fetchedObject));
+    }
+
+    /**
+     * Orderings are supported by all queries, for named queries these replace any ordering
+     * declared with the named query.
+     */
+    @Override
+    public boolean isOrderingSupported(final @NonNull Query<?> query, final @NonNull String propertyName) {
+        if(!(query instanceof AllInstancesQuery
+                || query instanceof CriteriaQuery
+                || query instanceof NamedQuery)) {
+            return false;
+        }
+        // plural members have no column
+        return getOrmMetadata().columns().stream()
+                .anyMatch(column->column.memberId().equals(propertyName));
+    }
+
+    private Can<ManagedObject> fetchUsingJdoql(
+            final Class<?> queryEntityType,
+            final List<QueryCriterion> criteria,
+            final List<QueryOrdering> orderings,
+            final QueryRange range) {
+        return fetchWithinTransaction(newJdoqlQuery(queryEntityType, criteria, orderings, range)::executeList);
+    }
+
+    private javax.jdo.Query<?> newJdoqlQuery(
+            final Class<?> queryEntityType,
+            final List<QueryCriterion> criteria,
+            final List<QueryOrdering> orderings,
+            final QueryRange range) {
+
+        val persistenceManager = getPersistenceManager();
+
+        val jdoQuery = persistenceManager.newQuery(queryEntityType);
+        jdoQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!criteria.isEmpty()) {
+            val namedParams = _Maps.<String, Object>newHashMap();
+            jdoQuery.setFilter(criteria.stream()
+                    .map(criterion->jdoqlFilterOf(criterion, namedParams))
+                    .collect(Collectors.joining(" && ")));
+            jdoQuery.setNamedParameters(namedParams);
+        }
+
+        if(!orderings.isEmpty()) {
+            jdoQuery.setOrdering(jdoqlOrderingOf(orderings));
+        }
+
+        if(!range.isUnconstrained()) {
+            jdoQuery.range(range.getStart(), range.getEnd());
+        }
+
+        return jdoQuery;
+    }
+
+    private javax.jdo.Query<?> newNamedQuery(final NamedQuery<?> applibNamedQuery) {
+
+        val range = applibNamedQuery.getRange();
+        val persistenceManager = getPersistenceManager();
+
+        val namedParams = _Maps.<String, Object>newHashMap();
+        val namedQuery = persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                .setNamedParameters(namedParams);
+
+        namedQuery.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+
+        if(!range.isUnconstrained()) {
+            namedQuery.range(range.getStart(), range.getEnd());
+        }
+
+        if(!applibNamedQuery.getOrderings().isEmpty()) {
+            // replaces any ordering declared with the named query
+            namedQuery.setOrdering(jdoqlOrderingOf(applibNamedQuery.getOrderings()));
+        }
+
+        // inject services into query params; not sure if required (might be redundant)
+        {
+            val injector = getServiceInjector();
+
+            applibNamedQuery
+            .getParametersByName()
+            .values()
+            .forEach(injector::injectServicesInto);
+        }
+
+        applibNamedQuery
+            .getParametersByName()
+            .forEach(namedParams::put);
+
+        return namedQuery;
+    }
+
+    private static Supplier<List<?>> executeMethodOf(final javax.jdo.Query<?> jdoQuery) {
+        return hasResultPhrase(jdoQuery)
+                ? jdoQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
+                : jdoQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
+    }
+
+    /**
+     * Translates given {@code criterion} into a JDOQL filter expression,
+     * with its value (if any) added as implicit parameter to given {@code namedParams}.
+     */
+    private static String jdoqlFilterOf(
+            final QueryCriterion criterion,
+            final Map<String, Object> namedParams) {
+
+        val property = "this." + criterion.getPropertyName();
+        val param = "p" + namedParams.size();
+        val value = criterion.getValue();
+
+        switch (criterion.getOperator()) {
+        case EQUAL:
+            if(value == null) {
+                return property + " == null";
+            }
+            namedParams.put(param, value);
+            return property + " == :" + param;
+        case GREATER_THAN:
+            namedParams.put(param, value);
+            return property + " > :" + param;
+        case GREATER_THAN_OR_EQUAL:
+            namedParams.put(param, value);
+            return property + " >= :" + param;
+        case LESS_THAN:
+            namedParams.put(param, value);
+            return property + " < :" + param;
+        case LESS_THAN_OR_EQUAL:
+            namedParams.put(param, value);
+            return property + " <= :" + param;
+        case IN:
+            // empty collections are short-circuited by the caller, see hasEmptyInCriterion(List)
+            namedParams.put(param, value);
+            return ":" + param + ".contains(" + property + ")";
+        case LIKE:
+            return jdoqlFilterOfLikePattern(property, (String) value, namedParams);
+        }
+        throw _Exceptions.unmatchedCase(criterion.getOperator());
+    }
+
+    /**
+     * An {@link QueryCriterion.Operator#IN} criterion with an empty collection matches nothing,
+     * which we rather not leave to the JDOQL to SQL translation.
+     */
+    private static boolean hasEmptyInCriterion(final List<QueryCriterion> criteria) {
+        return criteria.stream()
+                .filter(criterion->criterion.getOperator() == QueryCriterion.Operator.IN)
+                .anyMatch(criterion->_NullSafe.isEmpty((Collection<?>) criterion.getValue()));
+    }
+
+    /**
+     * Translates an SQL <code>LIKE</code> pattern into JDOQL {@code String} methods,
+     * that DataNucleus translates back to SQL without any regular expression involved:
+     * <ul>
+     * <li><code>abc</code> to {@code ==}</li>
+     * <li><code>abc%</code> to {@code startsWith}</li>
+     * <li><code>%abc</code> to {@code endsWith}</li>
+     * <li><code>ab%c</code> to {@code startsWith && endsWith} (with a minimum length)</li>
+     * <li><code>%abc%</code> to {@code indexOf}</li>
+     * </ul>
+     * Any other pattern (using <code>_</code> or more than one inner <code>%</code>) falls back to
+     * {@code String.matches}, restricted to the subset of regular expressions that DataNucleus
+     * supports, that is {@code .} and {@code .*}.
+     */
+    private static String jdoqlFilterOfLikePattern(
+            final String property,
+            final String likePattern,
+            final Map<String, Object> namedParams) {
+
+        if(likePattern.indexOf('_') < 0) {
+            val segments = likePattern.split("%", -1);
+            val prefix = segments[0];
+
+            if(segments.length == 1) {
+                return property + " == :" + addParam(prefix, namedParams);
+            }
+
+            val suffix = segments[segments.length - 1];
+            val innerSegments = Stream.of(segments).skip(1).limit(segments.length - 2)
+                    .filter(segment->!segment.isEmpty())
+                    .collect(Collectors.toList());
+
+            if(innerSegments.isEmpty()) {
+                val conditions = new ArrayList<String>();
+                if(!prefix.isEmpty()) {
+                    conditions.add(property + ".startsWith(:" + addParam(prefix, namedParams) + ")");
+                }
+                if(!suffix.isEmpty()) {
+                    conditions.add(property + ".endsWith(:" + addParam(suffix, namedParams) + ")");
+                }
+                if(!prefix.isEmpty()
+                        && !suffix.isEmpty()) {
+                    // prefix and suffix must not overlap
+                    conditions.add(property + ".length() >= " + (prefix.length() + suffix.length()));
+                }
+                return conditions.isEmpty()
+                        ? property + " != null" // LIKE '%'
+                        : String.join(" && ", conditions);
+            }
+
+            if(innerSegments.size() == 1
+                    && prefix.isEmpty()
+                    && suffix.isEmpty()) {
+                return property + ".indexOf(:" + addParam(innerSegments.get(0), namedParams) + ") >= 0";
+            }
+        }
+
+        val regex = new StringBuilder();
+        for(val c : likePattern.toCharArray()) {
+            switch (c) {
+            case '%':
+                regex.append(".*");
+                break;
+            case '_':
+                regex.append('.');
+                break;
+            default:
+                if("\\.[]{}()<>*+-=!?^$|".indexOf(c) >= 0) {
+                    throw _Exceptions.unsupportedOperation(
+                            "LIKE pattern '%s' cannot be translated to JDOQL: "
+                            + "combines '_' or multiple inner '%%' with the regex meta-character '%s'",
+                            likePattern, c);
+                }
+                regex.append(c);
+            }
+        }
+        return property + ".matches(:" + addParam(regex.toString(), namedParams) + ")";
+    }
+
+    private static String addParam(final Object value, final Map<String, Object> namedParams) {
+        val param = "p" + namedParams.size();
+        namedParams.put(param, value);
+        return param;
+    }
+
+    private static String jdoqlOrderingOf(final List<QueryOrdering> orderings) {
+        return orderings.stream()
+                .map(ordering->ordering.getPropertyName()
+                        + (ordering.isAscending() ? " ascending" : " descending"))
+                .collect(Collectors.joining(", "));
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
@@ -26,6 +26,7 @@
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.identity.SCOID;
+import org.datanucleus.metadata.IdentityType;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -58,6 +59,28 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * The name of the entity's primary key member, if it has application identity
+     * with a single primary key member.
+     */
+    Optional<String> primaryKeyMemberNameFor(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+
+        val pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        val contextLoader = Thread.currentThread().getContextClassLoader();
+        val nucleusContext = pmf.getNucleusContext();
+        val clr = nucleusContext.getClassLoaderResolver(contextLoader);
+        val classMetadata = nucleusContext.getMetaDataManager().getMetaDataForClass(entityClass, clr);
+
+        if(classMetadata == null
+                || classMetadata.getIdentityType() != IdentityType.APPLICATION
+                || classMetadata.getNoOfPrimaryKeyMembers() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(classMetadata.getPrimaryKeyMemberNames()[0]);
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
@@ -19,18 +19,40 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.CursoredStream;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
+import org.apache.causeway.applib.query.CriteriaQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryCriterion;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
@@ -42,6 +64,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.facets.object.entity.EntityOrmMetadata;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityStreams;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.apache.causeway.persistence.jpa.applib.integration.HasVersion;
@@ -115,19 +138,140 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches (in chunks of at most {@link #FETCH_BY_BOOKMARKS_CHUNK_SIZE}) all entities
+     * with a single {@code IN (...)} query, unless the entity has a composite primary key.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(!bookmarks.isCardinalityMultiple()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        val entityManager = getEntityManager();
+        val entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+        val idAttributeName = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(SingularAttribute::getName)
+                .findFirst()
+                .orElse(null);
+        if(idAttributeName==null) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        val entitiesByPrimaryKey = new HashMap<Object, Object>();
+
+        bookmarks.partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+        .forEach(chunk->{
+            final List<?> primaryKeys = chunk.map(bookmark->primaryKeyType.destring(bookmark.getIdentifier())).toList();
+
+            val cb = entityManager.getCriteriaBuilder();
+            val cr = cb.createQuery(entityClass);
+            val root = cr.from(entityClass);
+
+            cr.select(_Casts.uncheckedCast(root));
+            cr.where(root.get(idAttributeName).in(primaryKeys));
+
+            entityManager.createQuery(cr)
+                .getResultStream()
+                .forEach(entity->entitiesByPrimaryKey.put(persistenceUnitUtil.getIdentifier(entity), entity));
+        });
+
+        final Map<Bookmark, Object> entitiesByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->{
+            val entity = entitiesByPrimaryKey.get(primaryKeyType.destring(bookmark.getIdentifier()));
+            if(entity!=null) {
+                entitiesByBookmark.put(bookmark, entity);
+            }
+        });
+        return entitiesByBookmark;
+    }
+
+    /**
+     * Upper bound for the number of elements within an {@code IN (...)} clause,
+     * as some databases restrict these.
+     */
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
 
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
+        val entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQueryOf(query).getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query, final int fetchSize, final int detachEvery) {
+
+        val typedQuery = typedQueryOf(query);
+
+        // have EclipseLink return a cursor, that fetches rows as the stream is consumed
+        typedQuery.setHint(QueryHints.CURSOR, HintValues.TRUE);
+        if(fetchSize>0) {
+            typedQuery.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+            typedQuery.setHint(QueryHints.CURSOR_PAGE_SIZE, fetchSize);
+        }
+
+        val cursor = (CursoredStream) typedQuery.getSingleResult();
+        val entityManager = getEntityManager();
+        val entitySpec = getEntitySpecification();
+
+        final Iterator<Object> cursorIterator = new Iterator<Object>() {
+            @Override public boolean hasNext() { return cursor.hasNext(); }
+            @Override public Object next() { return cursor.next(); }
+        };
+
+        return EntityStreams.chunked(cursorIterator, detachEvery,
+                    consumed->{
+                        val entities = consumed.stream()
+                                .filter(entityClass::isInstance)
+                                .collect(Collectors.toList());
+                        if(!entities.isEmpty()) {
+                            entityManager.flush(); // detaching discards any pending changes otherwise
+                            entities.forEach(entityManager::detach);
+                        }
+                        cursor.clear();
+                    },
+                    cursor::close)
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity));
+    }
+
+    /**
+     * Orderings are supported by all but named queries,
+     * as the JPQL of a JPA named query is not accessible, hence cannot be amended with an ORDER BY clause.
+     */
+    @Override
+    public boolean isOrderingSupported(final @NonNull Query<?> query, final @NonNull String propertyName) {
+        if(!(query instanceof AllInstancesQuery
+                || query instanceof CriteriaQuery)) {
+            return false;
+        }
+        val typeMetadata = (EntityType<?>) getOrmMetadata().vendorEntityMetadata();
+        return typeMetadata.getSingularAttributes().stream()
+                .anyMatch(attribute->attribute.getName().equals(propertyName));
+    }
+
+    private TypedQuery<?> typedQueryOf(final Query<?> query) {
 
         val range = query.getRange();
 
-        if (query instanceof AllInstancesQuery) {
+        if (query instanceof AllInstancesQuery
+                || query instanceof CriteriaQuery) {
 
-            val queryFindAllInstances = (AllInstancesQuery<?>) query;
-            val queryEntityType = queryFindAllInstances.getResultType();
+            val queryEntityType = query.getResultType();
 
             // guard against misuse
             _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
@@ -137,7 +281,22 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             val cb = entityManager.getCriteriaBuilder();
             val cr = cb.createQuery(entityClass);
 
-            cr.select(_Casts.uncheckedCast(cr.from(entityClass)));
+            val root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root));
+
+            if(query instanceof CriteriaQuery) {
+                cr.where(((CriteriaQuery<?>) query).getCriteria().stream()
+                        .map(criterion->predicateOf(cb, root, criterion))
+                        .toArray(Predicate[]::new));
+            }
+
+            if(!query.getOrderings().isEmpty()) {
+                cr.orderBy(query.getOrderings().stream()
+                        .map(ordering->ordering.isAscending()
+                                ? cb.asc(pathOf(root, ordering.getPropertyName()))
+                                : cb.desc(pathOf(root, ordering.getPropertyName())))
+                        .collect(Collectors.toList()));
+            }
 
             val typedQuery = entityManager
                     .createQuery(cr);
@@ -149,16 +308,20 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 typedQuery.setMaxResults(range.getLimitAsInt());
             }
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return typedQuery;
 
         } else if (query instanceof NamedQuery) {
 
             val applibNamedQuery = (NamedQuery<?>) query;
             val queryResultType = applibNamedQuery.getResultType();
 
+            if(!applibNamedQuery.getOrderings().isEmpty()) {
+                throw _Exceptions.unsupportedOperation(
+                        "JPA named query '%s' cannot be ordered by %s, as its JPQL cannot be amended; "
+                        + "specify the ORDER BY clause within the named query instead",
+                        applibNamedQuery.getName(), applibNamedQuery.getOrderings());
+            }
+
             val entityManager = getEntityManager();
 
             val namedQuery = entityManager
@@ -176,11 +339,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                     .forEach((paramName, paramValue) ->
                             namedQuery.setParameter(paramName, paramValue));
 
-            val entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
-
+            return namedQuery;
         }
 
         throw _Exceptions.unsupportedOperation(
@@ -265,6 +424,72 @@ public <T> T detach(final T pojo) {
         return pojo;
     }
 
+    // -- HELPER
+
+    private static Predicate predicateOf(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final QueryCriterion criterion) {
+
+        val path = pathOf(root, criterion.getPropertyName());
+        val value = criterion.getValue();
+
+        switch (criterion.getOperator()) {
+        case EQUAL:
+            return value != null
+                    ? cb.equal(path, value)
+                    : cb.isNull(path);
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUAL:
+        case LESS_THAN:
+        case LESS_THAN_OR_EQUAL:
+            return comparisonOf(cb, path, criterion.getOperator(), value);
+        case IN:
+            val values = (Collection<?>) value;
+            return values.isEmpty()
+                    ? cb.disjunction() // always false
+                    : path.in(values);
+        case LIKE:
+            return cb.like(path.as(String.class), (String) value);
+        }
+        throw _Exceptions.unmatchedCase(criterion.getOperator());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Predicate comparisonOf(
+            final CriteriaBuilder cb,
+            final Path<?> path,
+            final QueryCriterion.Operator operator,
+            final Object value) {
+
+        final Expression<Comparable> expression = (Expression<Comparable>) path;
+        final Comparable comparable = (Comparable) value;
+
+        switch (operator) {
+        case GREATER_THAN:
+            return cb.greaterThan(expression, comparable);
+        case GREATER_THAN_OR_EQUAL:
+            return cb.greaterThanOrEqualTo(expression, comparable);
+        case LESS_THAN:
+            return cb.lessThan(expression, comparable);
+        case LESS_THAN_OR_EQUAL:
+            return cb.lessThanOrEqualTo(expression, comparable);
+        default:
+            throw _Exceptions.unmatchedCase(operator);
+        }
+    }
+
+    /**
+     * Resolves given (optionally dot-separated) property path against given {@code root}.
+     */
+    private static Path<?> pathOf(final Root<?> root, final String propertyPath) {
+        Path<?> path = root;
+        for(val propertyName : propertyPath.split("\\.")) {
+            path = path.get(propertyName);
+        }
+        return path;
+    }
+
     // -- JPA METAMODEL
 
     // lazily looks up the ORM metadata (needs an EntityManager)
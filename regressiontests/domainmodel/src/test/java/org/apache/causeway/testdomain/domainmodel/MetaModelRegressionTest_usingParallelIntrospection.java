@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.domainmodel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.metamodel.MetaModelServiceMenu;
+import org.apache.causeway.applib.services.metamodel.MetaModelServiceMenu.ExportFormat;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.conf.Configuration_headless;
+import org.apache.causeway.testdomain.model.good.Configuration_usingValidDomain;
+
+import lombok.val;
+
+/**
+ * Boots the (valid) regression domain with parallel introspection and verifies that the resulting
+ * metamodel is the same as the one produced by sequential introspection, and the same every time.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_headless.class,
+                Configuration_usingValidDomain.class,
+
+        },
+        properties = {
+                "causeway.core.meta-model.introspector.mode=FULL",
+                "causeway.core.meta-model.introspector.parallelize=TRUE",
+                "causeway.applib.annotation.domain-object.editing=TRUE",
+                "causeway.core.meta-model.validator.explicit-object-type=FALSE", // does not override any of the imports
+          })
+@TestPropertySource({
+    CausewayPresets.SilenceMetaModel,
+    CausewayPresets.SilenceProgrammingModel
+})
+class MetaModelRegressionTest_usingParallelIntrospection {
+
+    @Inject MetaModelServiceMenu metaModelServiceMenu;
+    @Inject FactoryService factoryService;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject SpecificationLoader specificationLoader;
+
+    static final int REPETITIONS = 5;
+
+    @AfterEach
+    void restoreParallelize() {
+        causewayConfiguration.getCore().getMetaModel().getIntrospector().setParallelize(true);
+    }
+
+    @Test
+    void parallelIntrospection_shouldYieldSameMetamodelAsSequential() {
+        val parallel = exportMetaModel(); // as bootstrapped
+
+        causewayConfiguration.getCore().getMetaModel().getIntrospector().setParallelize(false);
+        recreateMetaModel();
+        val sequential = exportMetaModel();
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void parallelIntrospection_shouldBeDeterministic() {
+        val first = exportMetaModel();
+
+        for (int i = 0; i < REPETITIONS; i++) {
+            recreateMetaModel();
+            assertEquals(first, exportMetaModel(), String.format("metamodel differs on repetition %d", i));
+        }
+    }
+
+    // -- HELPER
+
+    private void recreateMetaModel() {
+        specificationLoader.disposeMetaModel();
+        specificationLoader.createMetaModel();
+    }
+
+    private String exportMetaModel() {
+        return factoryService
+                .mixin(MetaModelServiceMenu.downloadMetaModel.class, metaModelServiceMenu)
+                .act("metamodel", namespaces(), true, ExportFormat.XML, false)
+                .toClob(StandardCharsets.UTF_8)
+                .asString();
+    }
+
+    private List<String> namespaces() {
+        return List.of("org.apache.causeway.testdomain.model.good");
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.causeway.testdomain.persistence.jpa;
 
 import java.sql.SQLException;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -165,6 +166,30 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportStreamMatches() {
+
+        try(val books = repositoryService.streamMatches(Query.allInstances(JpaBook.class))) {
+            testFixtures.assertInventoryHasBooks(books.collect(Collectors.toList()), 1, 2, 3);
+        }
+
+        try(val books = repositoryService.streamMatches(Query.allInstances(JpaBook.class)
+                .withLimit(2))) {
+            testFixtures.assertInventoryHasBooks(books.collect(Collectors.toList()), 1, 2);
+        }
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportStreamMatchesWithNamedQueries() {
+
+        val query = Query.named(JpaBook.class, "JpaInventory.findAffordableProducts")
+                .withParameter("priceUpperBound", 60.);
+
+        try(val affordableBooks = repositoryService.streamMatches(query)) {
+            testFixtures.assertInventoryHasBooks(affordableBooks.collect(Collectors.toList()), 1, 2);
+        }
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
@@ -43,6 +43,15 @@
 @ExperimentalApi
 public interface UserMementoProvider {
 
+    /**
+     * Called (at most) once per GraphQL request, the framework re-uses the obtained {@link UserMemento}
+     * for all fields resolved by that request.
+     *
+     * <p>
+     *     Hence the user's identity must not depend on the {@link ExecutionStrategyParameters} of any
+     *     particular field, those passed in are the ones of whichever field happens to be resolved first.
+     * </p>
+     */
     UserMemento userMemento(ExecutionContext executionContext, ExecutionStrategyParameters parameters);
 
 
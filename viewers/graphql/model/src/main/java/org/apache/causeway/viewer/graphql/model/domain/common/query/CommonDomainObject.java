@@ -20,6 +20,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import graphql.Scalars;
 import graphql.schema.DataFetchingEnvironment;
@@ -42,6 +43,7 @@
 import org.apache.causeway.viewer.graphql.model.domain.TypeNames;
 import org.apache.causeway.viewer.graphql.model.domain.common.SchemaStrategy;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
 import org.apache.causeway.viewer.graphql.model.mmproviders.ObjectSpecificationProvider;
 import org.apache.causeway.viewer.graphql.model.mmproviders.SchemaTypeProvider;
 
@@ -193,6 +195,15 @@ protected void addDataFetchersForChildren() {
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
         Object target = dataFetchingEnvironment.getArgument("object");
+        if (target instanceof Map
+                && ((Map<?, ?>) target).get("ref") == null
+                && BookmarkBatchLoader.isApplicable(dataFetchingEnvironment)) {
+            // lookups by id are batched (and deduplicated) with any others of the same request
+            val bookmarkIfAny = ObjectFeatureUtils.bookmarkFor(getObjectSpecification(), (Map<String, ?>) target, context);
+            if (bookmarkIfAny.isPresent()) {
+                return BookmarkBatchLoader.load(dataFetchingEnvironment, bookmarkIfAny.get());
+            }
+        }
         return ObjectFeatureUtils.asPojo(getObjectSpecification(), target, new Environment.For(dataFetchingEnvironment), context)
                 .orElse(null);
     }
@@ -70,21 +70,8 @@ static Optional<Object> asPojo(
             return Optional.of(bookmarkedPojo).map(BookmarkedPojo::getTargetPojo);
         }
 
-        val idValue = (String)argumentValue.get("id");
-        if (idValue != null) {
-            Class<?> paramClass = elementType.getCorrespondingClass();
-            Optional<Bookmark> bookmarkIfAny;
-            if(elementType.isAbstract()) {
-                val objectSpecArg = (ObjectSpecification)argumentValue.get("logicalTypeName");
-                if (objectSpecArg == null) {
-                    throw new IllegalArgumentException(String.format(
-                            "The 'logicalTypeName' is required along with the 'id', because the input type '%s' is abstract",
-                            elementType.getLogicalTypeName()));
-                }
-                 bookmarkIfAny = Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(objectSpecArg.getLogicalTypeName(), idValue));
-            } else {
-                bookmarkIfAny = context.bookmarkService.bookmarkFor(paramClass, idValue);
-            }
+        val bookmarkIfAny = bookmarkFor(elementType, argumentValue, context);
+        if (bookmarkIfAny.isPresent()) {
             return bookmarkIfAny
                     .map(context.bookmarkService::lookup)
                     .filter(Optional::isPresent)
@@ -93,6 +80,31 @@ static Optional<Object> asPojo(
         throw new IllegalArgumentException("Either 'id' or 'ref' must be specified for a DomainObject input type");
     }
 
+    /**
+     * Optionally the {@link Bookmark} of the object identified by 'id' (and 'logicalTypeName'),
+     * based on whether an 'id' was specified (rather than a 'ref').
+     */
+    static Optional<Bookmark> bookmarkFor(
+            final ObjectSpecification elementType,
+            final Map<String, ?> argumentValue,
+            final Context context
+    ) {
+        val idValue = (String)argumentValue.get("id");
+        if (idValue == null) {
+            return Optional.empty();
+        }
+        if(elementType.isAbstract()) {
+            val objectSpecArg = (ObjectSpecification)argumentValue.get("logicalTypeName");
+            if (objectSpecArg == null) {
+                throw new IllegalArgumentException(String.format(
+                        "The 'logicalTypeName' is required along with the 'id', because the input type '%s' is abstract",
+                        elementType.getLogicalTypeName()));
+            }
+            return Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(objectSpecArg.getLogicalTypeName(), idValue));
+        }
+        return context.bookmarkService.bookmarkFor(elementType.getCorrespondingClass(), idValue);
+    }
+
     /**
      * @param environment
      * @param objectAction
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import graphql.schema.DataFetchingEnvironment;
+
+import org.dataloader.DataLoader;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Loads the domain objects for a batch of {@link Bookmark}s, such that entities of the same logical type
+ * are fetched with a single query (see {@link ObjectManager#loadObjects(Can)}).
+ *
+ * <p>
+ *     Registered as a (per request) {@link DataLoader} named {@link #NAME}, which hence also deduplicates
+ *     lookups of the same {@link Bookmark} within a request.
+ * </p>
+ *
+ * <p>
+ *     Only applicable if the GraphQL operation as a whole is resolved within a single interaction;
+ *     otherwise the loaded objects would not outlive the interaction they were loaded in.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class BookmarkBatchLoader {
+
+    public static final String NAME = BookmarkBatchLoader.class.getName();
+
+    /**
+     * {@link graphql.GraphQLContext} key, present if the GraphQL operation as a whole is resolved
+     * within a single interaction.
+     */
+    public static final String SINGLE_INTERACTION_KEY = BookmarkBatchLoader.class.getName() + ".singleInteraction";
+
+    private final ObjectManager objectManager;
+
+    /**
+     * Objects that cannot be found are not contained in the resulting {@link Map}.
+     */
+    public Map<Bookmark, Object> load(final Set<Bookmark> bookmarks) {
+        val bookmarksAsCan = Can.ofCollection(bookmarks);
+        val objectsByBookmark = new HashMap<Bookmark, Object>();
+        bookmarksAsCan.zip(objectManager.loadObjects(bookmarksAsCan), (bookmark, object)->{
+            if(!ManagedObjects.isNullOrUnspecifiedOrEmpty(object)) {
+                objectsByBookmark.put(bookmark, object.getPojo());
+            }
+        });
+        return objectsByBookmark;
+    }
+
+    // -- DATA FETCHER SUPPORT
+
+    public static boolean isWithinSingleInteraction(final DataFetchingEnvironment dataFetchingEnvironment) {
+        return dataFetchingEnvironment.getGraphQlContext().hasKey(SINGLE_INTERACTION_KEY);
+    }
+
+    /**
+     * Whether data fetchers may use {@link #load(DataFetchingEnvironment, Bookmark)}.
+     */
+    public static boolean isApplicable(final DataFetchingEnvironment dataFetchingEnvironment) {
+        return isWithinSingleInteraction(dataFetchingEnvironment)
+                && dataFetchingEnvironment.getDataLoader(NAME) != null;
+    }
+
+    /**
+     * Defers the lookup of given {@link Bookmark}, such that it can be batched with others.
+     */
+    public static CompletableFuture<Object> load(
+            final DataFetchingEnvironment dataFetchingEnvironment,
+            final Bookmark bookmark) {
+        final DataLoader<Bookmark, Object> dataLoader = dataFetchingEnvironment.getDataLoader(NAME);
+        return dataLoader.load(bookmark);
+    }
+
+}
@@ -31,12 +31,26 @@ public class BookmarkedPojo {
     private final Bookmark bookmark;
     private final BookmarkService bookmarkService;
 
+    /**
+     * Only set if known to remain valid for the lifetime of this instance,
+     * that is, when resolving the GraphQL operation as a whole within a single interaction.
+     */
+    private final Object targetPojo;
+
     public BookmarkedPojo(
             final Bookmark bookmark,
             final BookmarkService bookmarkService) {
+        this(bookmark, bookmarkService, null);
+    }
+
+    private BookmarkedPojo(
+            final Bookmark bookmark,
+            final BookmarkService bookmarkService,
+            final Object targetPojo) {
 
         this.bookmark = bookmark;
         this.bookmarkService = bookmarkService;
+        this.targetPojo = targetPojo;
     }
 
     public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment) {
@@ -48,12 +62,18 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
 
     public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
         val sourcePojo = sourceFrom(dataFetchingEnvironment);
+        // no need to lookup the source pojo again, if it cannot become stale
+        val isWithinSingleInteraction = BookmarkBatchLoader.isWithinSingleInteraction(dataFetchingEnvironment);
         return context.bookmarkService.bookmarkFor(sourcePojo)
-                .map(bookmark -> new BookmarkedPojo(bookmark, context.bookmarkService))
+                .map(bookmark -> isWithinSingleInteraction
+                        ? new BookmarkedPojo(bookmark, context.bookmarkService, sourcePojo)
+                        : new BookmarkedPojo(bookmark, context.bookmarkService))
                 .orElseThrow();
     }
 
     public Object getTargetPojo() {
-        return bookmarkService.lookup(bookmark).orElseThrow();
+        return targetPojo != null
+                ? targetPojo
+                : bookmarkService.lookup(bookmark).orElseThrow();
     }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.MappedBatchLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+
+import lombok.val;
+
+class BookmarkBatchLoaderTest {
+
+    private ObjectManager objectManager;
+    private BookmarkBatchLoader bookmarkBatchLoader;
+
+    private final Bookmark customer1 = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1");
+    private final Bookmark customer2 = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "2");
+    private final Bookmark missing = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "99");
+
+    @BeforeEach
+    void setUp() {
+        objectManager = mock(ObjectManager.class);
+        when(objectManager.loadObjects(any())).thenAnswer(invocation->{
+            final Can<Bookmark> bookmarks = _Casts.uncheckedCast(invocation.getArgument(0));
+            return bookmarks.map(this::managedObjectFor);
+        });
+        bookmarkBatchLoader = new BookmarkBatchLoader(objectManager);
+    }
+
+    @Test
+    void load_omitsObjectsThatCannotBeFound() {
+        val objectsByBookmark = bookmarkBatchLoader.load(Set.of(customer1, missing));
+
+        assertEquals(Map.of(customer1, "customer-1"), objectsByBookmark);
+    }
+
+    @Test
+    void dataLoader_batchesAndDeduplicates() {
+        final MappedBatchLoader<Bookmark, Object> batchLoader = bookmarks->
+                CompletableFuture.completedFuture(bookmarkBatchLoader.load(bookmarks));
+        final DataLoader<Bookmark, Object> dataLoader = DataLoaderFactory.newMappedDataLoader(batchLoader);
+
+        val first = dataLoader.load(customer1);
+        val second = dataLoader.load(customer2);
+        val firstAgain = dataLoader.load(customer1);
+        val notFound = dataLoader.load(missing);
+        dataLoader.dispatchAndJoin();
+
+        // a single bulk lookup, each bookmark requested once only
+        final ArgumentCaptor<Can<Bookmark>> bookmarksCaptor = _Casts.uncheckedCast(ArgumentCaptor.forClass(Can.class));
+        verify(objectManager, times(1)).loadObjects(bookmarksCaptor.capture());
+        assertEquals(
+                Set.of(customer1, customer2, missing),
+                bookmarksCaptor.getValue().toSet());
+        assertEquals(3, bookmarksCaptor.getValue().size());
+
+        assertEquals("customer-1", first.join());
+        assertEquals("customer-2", second.join());
+        assertEquals("customer-1", firstAgain.join());
+        assertNull(notFound.join());
+    }
+
+    // -- HELPER
+
+    private ManagedObject managedObjectFor(final Bookmark bookmark) {
+        if(bookmark.equals(missing)) {
+            return ManagedObject.unspecified();
+        }
+        val managedObject = mock(ManagedObject.class);
+        when(managedObject.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(managedObject.getPojo()).thenReturn("customer-" + bookmark.getIdentifier());
+        return managedObject;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.e2e.simple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import org.apache.causeway.commons.internal.resources._Resources;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.viewer.test.e2e.Abstract_IntegTest;
+
+import lombok.SneakyThrows;
+
+/**
+ * Same queries as {@link SimpleDepartment_IntegTest} (which resolves each field within its own interaction),
+ * but resolving the operation as a whole within a single interaction; hence expecting the same results.
+ */
+//NOT USING @Transactional since we are running server within same transaction otherwise
+@Order(41)
+@ActiveProfiles("test")
+public class SimpleDepartmentInteractionPerOperation_IntegTest extends Abstract_IntegTest {
+
+    @DynamicPropertySource
+    static void interactionPerOperation(final DynamicPropertyRegistry registry) {
+        registry.add("causeway.viewer.graphql.interaction.query",
+                CausewayConfiguration.Viewer.Graphql.InteractionScope.OPERATION::name);
+        registry.add("causeway.viewer.graphql.interaction.mutation",
+                CausewayConfiguration.Viewer.Graphql.InteractionScope.OPERATION::name);
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void find_all_departments() {
+        assertSameAsApproved("find_all_departments");
+    }
+
+    @Test
+    void create_department() {
+        // the department created is visible to the subsequent fields of the same operation
+        assertSameAsApproved("create_department");
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private void assertSameAsApproved(final String testName) {
+        final String resourcePrefix = SimpleDepartment_IntegTest.class.getSimpleName() + ".each." + testName;
+
+        final String response = submitFileNamed(resourcePrefix + "._.gql");
+        final String approved = _Resources.loadAsStringUtf8ElseFail(getClass(), resourcePrefix + ".approved.json");
+
+        assertThat(objectMapper.readTree(response)).isEqualTo(objectMapper.readTree(approved));
+    }
+
+}
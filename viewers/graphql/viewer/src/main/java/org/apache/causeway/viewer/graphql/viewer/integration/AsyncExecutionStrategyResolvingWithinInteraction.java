@@ -18,53 +18,161 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
 import graphql.execution.FieldValueInfo;
+import graphql.execution.NonNullableFieldWasNullException;
+import graphql.language.OperationDefinition;
 
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.InteractionScope;
 import org.apache.causeway.viewer.graphql.applib.auth.UserMementoProvider;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
 
 import lombok.val;
 
+/**
+ * Resolves fields within an interaction, either one per field or one per operation,
+ * as per {@link CausewayConfiguration.Viewer.Graphql.Interaction}.
+ */
 @Service
 public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
 
+    private static final String USER_MEMENTO_KEY =
+            AsyncExecutionStrategyResolvingWithinInteraction.class.getName() + ".userMemento";
+
     private final InteractionService interactionService;
 
     private final UserMementoProvider userMementoProvider;
 
+    private final CausewayConfiguration.Viewer.Graphql.Interaction interactionConfiguration;
+
     public AsyncExecutionStrategyResolvingWithinInteraction(
             final InteractionService interactionService,
-            final UserMementoProvider userMementoProvider) {
+            final UserMementoProvider userMementoProvider,
+            final CausewayConfiguration causewayConfiguration) {
 
         this.interactionService = interactionService;
         this.userMementoProvider = userMementoProvider;
+        this.interactionConfiguration = causewayConfiguration.getViewer().getGraphql().getInteraction();
     }
 
+    @Override
+    public CompletableFuture<ExecutionResult> execute(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) throws NonNullableFieldWasNullException {
+
+        if(!parameters.getPath().isRootPath()
+                || interactionScopeFor(executionContext) != InteractionScope.OPERATION) {
+            return super.execute(executionContext, parameters);
+        }
+
+        // Interactions are bound to the calling thread, hence the operation's interaction only spans
+        // whatever resolves synchronously within super.execute(...), which for Causeway's own data fetchers
+        // is the entire operation. (Closing the interaction once the returned future completes is not an option,
+        // as that might happen on some other thread.)
+        // We don't wait for the returned future though: any field that completes later on some other thread
+        // cannot participate in this interaction anyway, and instead gets resolved within its own
+        // (see resolveFieldWithInfo below), likewise any batch of the BookmarkBatchLoader dispatched later on
+        // (see callWithinInteraction(GraphQLContext, Supplier) below).
+        val graphQLContext = executionContext.getGraphQLContext();
+        graphQLContext.put(BookmarkBatchLoader.SINGLE_INTERACTION_KEY, Boolean.TRUE);
+        try {
+            return callWithinInteraction(executionContext, parameters,
+                    () -> super.execute(executionContext, parameters));
+        } finally {
+            graphQLContext.delete(BookmarkBatchLoader.SINGLE_INTERACTION_KEY);
+        }
+    }
 
     @Override
     protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
-        val userMemento = userMementoProvider.userMemento(executionContext, parameters);
+        if(executionContext.getGraphQLContext().hasKey(BookmarkBatchLoader.SINGLE_INTERACTION_KEY)
+                && interactionService.isInInteraction()) {
+            // reuse the interaction opened for the operation as a whole
+            return super.resolveFieldWithInfo(executionContext, parameters);
+        }
+
+        return callWithinInteraction(executionContext, parameters,
+                () -> super.resolveFieldWithInfo(executionContext, parameters));
+    }
+
+    /**
+     * Calls given {@link Supplier} within the current interaction if any, otherwise within an interaction
+     * of its own, on behalf of the user the GraphQL request (as per given {@link GraphQLContext})
+     * is being executed for.
+     *
+     * <p>
+     *     In support of the {@link BookmarkBatchLoader}, whose batches are usually dispatched within the
+     *     operation's interaction (if any), but not necessarily so.
+     * </p>
+     */
+    public <R> R callWithinInteraction(
+            final GraphQLContext graphQLContext,
+            final Supplier<R> supplier) {
+
+        if(interactionService.isInInteraction()) {
+            return supplier.get();
+        }
+
+        final Callable<R> callable = supplier::get;
+        final Optional<UserMemento> userMementoIfAny = graphQLContext.getOrDefault(USER_MEMENTO_KEY, Optional.empty());
+        return userMementoIfAny.isPresent()
+                ? interactionService.call(InteractionContext.builder().user(userMementoIfAny.get()).build(), callable)
+                : interactionService.callAnonymous(callable);
+    }
+
+    // -- HELPER
+
+    private InteractionScope interactionScopeFor(final ExecutionContext executionContext) {
+        return executionContext.getOperationDefinition().getOperation() == OperationDefinition.Operation.MUTATION
+                ? interactionConfiguration.getMutation()
+                : interactionConfiguration.getQuery();
+    }
+
+    private <R> R callWithinInteraction(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters,
+            final Callable<R> callable) {
+
+        final UserMemento userMemento = userMementoFor(executionContext, parameters);
 
         if (userMemento != null) {
             return interactionService.call(
                     InteractionContext.builder().user(userMemento).build(),
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
+                    callable
             );
         } else {
-            return interactionService.callAnonymous(
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
-            );
+            return interactionService.callAnonymous(callable);
         }
     }
+
+    /**
+     * The {@link UserMemento} is resolved only once per request,
+     * as documented with {@link UserMementoProvider}.
+     */
+    private UserMemento userMementoFor(
+            final ExecutionContext executionContext,
+            final ExecutionStrategyParameters parameters) {
+        final Optional<UserMemento> userMementoIfAny = executionContext.getGraphQLContext()
+                .computeIfAbsent(USER_MEMENTO_KEY,
+                        key -> Optional.ofNullable(userMementoProvider.userMemento(executionContext, parameters)));
+        return userMementoIfAny.orElse(null);
+    }
 }
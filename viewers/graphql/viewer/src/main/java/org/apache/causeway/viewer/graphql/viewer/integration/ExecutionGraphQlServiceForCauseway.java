@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
 import org.springframework.graphql.ExecutionGraphQlRequest;
@@ -28,12 +29,21 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkBatchLoader;
+
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ *
+ * <p>
+ *     Also registers the {@link BookmarkBatchLoader}, for fetching domain objects in batches.
+ * </p>
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -41,6 +51,19 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final ObjectManager objectManager;
+    private final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy;
+
+    @PostConstruct
+    public void init() {
+        val bookmarkBatchLoader = new BookmarkBatchLoader(objectManager);
+        batchLoaderRegistry.forTypePair(Bookmark.class, Object.class)
+                .withName(BookmarkBatchLoader.NAME)
+                .registerMappedBatchLoader((bookmarks, batchLoaderEnvironment) ->
+                        Mono.fromSupplier(() -> executionStrategy.callWithinInteraction(
+                                batchLoaderEnvironment.getContext(),
+                                () -> bookmarkBatchLoader.load(bookmarks))));
+    }
 
     DefaultExecutionGraphQlService delegate;
 
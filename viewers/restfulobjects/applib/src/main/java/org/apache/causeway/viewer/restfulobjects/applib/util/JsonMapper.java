@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.applib.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -37,6 +38,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -125,9 +127,12 @@ public static final JsonMapper instance(final PrettyPrinting prettyPrinting) {
     }
 
     private final ObjectMapper objectMapper;
+    private final ObjectWriter streamingWriter;
 
     private JsonMapper(final PrettyPrinting prettyPrinting) {
         objectMapper = createObjectMapper(prettyPrinting);
+        // leave it to the caller (eg. the JAX-RS container) to close the target stream
+        streamingWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public JsonRepresentation read(final String json) throws JsonParseException, JsonMappingException, IOException {
@@ -150,4 +155,13 @@ public String write(final Object object) throws JsonGenerationException, JsonMap
         return objectMapper.writeValueAsString(object);
     }
 
+    /**
+     * Writes given {@code object} as (UTF-8 encoded) JSON directly to given {@code outputStream},
+     * without closing it. The bytes written are the same as those of {@link #write(Object)},
+     * but no intermediate {@link String} is created.
+     */
+    public void write(final Object object, final OutputStream outputStream) throws JsonGenerationException, JsonMappingException, IOException {
+        streamingWriter.writeValue(outputStream, object);
+    }
+
 }
@@ -0,0 +1,53 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.applib.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import static org.apache.causeway.viewer.restfulobjects.applib.JsonFixture.readJson;
+
+import lombok.val;
+
+class JsonMapperTest_writeToOutputStream {
+
+    @ParameterizedTest
+    @EnumSource(JsonMapper.PrettyPrinting.class)
+    void sameBytesAsWrittenToString(final JsonMapper.PrettyPrinting prettyPrinting) throws IOException {
+
+        val jsonRepresentation = new JsonRepresentation(readJson("domainObjectRepresentation.json"));
+        val jsonMapper = JsonMapper.instance(prettyPrinting);
+
+        val outputStream = new ByteArrayOutputStream();
+        jsonMapper.write(jsonRepresentation, outputStream);
+
+        assertThat(outputStream.toByteArray(),
+                is(jsonMapper.write(jsonRepresentation).getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -81,7 +81,9 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(inferStreamingJsonOutput(renderer)
+                        ? JsonWriterUtil.streamingJsonFor(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
@@ -119,4 +121,15 @@ public static JsonMapper.PrettyPrinting inferPrettyPrinting(final ReprRenderer<?
 
     }
 
+    private static boolean inferStreamingJsonOutput(final ReprRenderer<?> renderer) {
+
+        if(renderer instanceof ReprRendererAbstract) {
+            return ((ReprRendererAbstract<?>) renderer).getResourceContext()
+                    .getMetaModelContext().getConfiguration()
+                    .getViewer().getRestfulobjects().isStreamingJsonOutput();
+        }
+
+        return false;
+    }
+
 }
@@ -18,41 +18,84 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelEvent;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.RestEasyConfiguration;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
 
+import lombok.Value;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
+/**
+ * Caches the generated specs per {@link Visibility} and {@link Format},
+ * until the {@link SpecificationLoader} reports the metamodel as modified,
+ * which includes any (lazily introspected) specification being loaded.
+ */
 @Service
 @Named(CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".swaggerServiceDefault")
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Log4j2
 public class SwaggerServiceDefault implements SwaggerService {
 
     private final OpenApiSpecGenerator swaggerSpecGenerator;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+    private final CausewayConfiguration causewayConfiguration;
     private final String basePath;
 
+    private final Map<SpecKey, CachedSpec> specCache = _Maps.newConcurrentHashMap();
+    private final Map<SpecKey, Object> generationLocks = _Maps.newConcurrentHashMap();
+
+    /**
+     * Runs the precomputation of specs, such that it does not compete for the common fork-join pool.
+     */
+    private final ExecutorService precomputeExecutor = Executors.newSingleThreadExecutor(runnable->{
+        val thread = new Thread(runnable, "causeway-swagger-precompute");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Inject
     public SwaggerServiceDefault(
             final OpenApiSpecGenerator swaggerSpecGenerator,
+            final SpecificationLoader specificationLoader,
+            final InteractionService interactionService,
+            final CausewayConfiguration causewayConfiguration,
             final RestEasyConfiguration restEasyConfiguration,
             final WebAppContextPath webAppContextPath) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.specificationLoader = specificationLoader;
+        this.interactionService = interactionService;
+        this.causewayConfiguration = causewayConfiguration;
 
         val restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         val restfulBase = webAppContextPath.prependContextPath(restfulPath);
@@ -64,7 +107,96 @@ public SwaggerServiceDefault(
     public String generateSwaggerSpec(
             final Visibility visibility,
             final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+        return cachedSpec(visibility, format).getSpec();
+    }
+
+    @Override
+    public String generateSwaggerSpecETag(
+            final Visibility visibility,
+            final Format format) {
+        return cachedSpec(visibility, format).getETag();
+    }
+
+    @EventListener(MetamodelEvent.class)
+    public void onMetamodelEvent(final MetamodelEvent event) {
+        if(!event.isPostMetamodel()
+                || !causewayConfiguration.getViewer().getRestfulobjects().isPrecomputeSwaggerSpecs()) {
+            return;
+        }
+        CompletableFuture.runAsync(()->
+            interactionService.runAnonymous(()->{
+                for(val visibility : Visibility.values()) {
+                    for(val format : Format.values()) {
+                        cachedSpec(visibility, format);
+                    }
+                }
+            }), precomputeExecutor)
+        .exceptionally(ex->{
+            log.warn("failed to precompute Swagger specs (will be generated on demand instead)", ex);
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        precomputeExecutor.shutdownNow();
+    }
+
+    // -- HELPER
+
+    @Value(staticConstructor = "of")
+    private static class SpecKey {
+        final Visibility visibility;
+        final Format format;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CachedSpec {
+        final String spec;
+        final String eTag;
+        final long metamodelModificationCount;
+    }
+
+    private CachedSpec cachedSpec(
+            final Visibility visibility,
+            final Format format) {
+
+        val key = SpecKey.of(visibility, format);
+        val cached = validCachedSpec(key);
+        if(cached!=null) {
+            return cached;
+        }
+
+        // generates at most once per key and metamodel modification, concurrent callers (of the same key) wait
+        // for the result; not generating within the cache's compute, as that would block unrelated keys
+        synchronized(generationLocks.computeIfAbsent(key, __->new Object())) {
+            val cachedMeanwhile = validCachedSpec(key);
+            if(cachedMeanwhile!=null) {
+                return cachedMeanwhile;
+            }
+            val newCachedSpec = newCachedSpec(visibility, format);
+            specCache.put(key, newCachedSpec);
+            return newCachedSpec;
+        }
+    }
+
+    private CachedSpec validCachedSpec(final SpecKey key) {
+        val cached = specCache.get(key);
+        return cached!=null
+                && cached.getMetamodelModificationCount()==specificationLoader.getModificationCount()
+            ? cached
+            : null;
+    }
+
+    private CachedSpec newCachedSpec(
+            final Visibility visibility,
+            final Format format) {
+        // read before generating, such that any modification while generating (including specs lazily loaded
+        // by the generator itself) invalidates the result, rather than going unnoticed
+        val modificationCount = specificationLoader.getModificationCount();
+        val spec = swaggerSpecGenerator.generate(basePath, visibility, format);
+        val eTag = DigestUtils.md5DigestAsHex(spec.getBytes(StandardCharsets.UTF_8));
+        return CachedSpec.of(spec, eTag, modificationCount);
     }
 
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,16 @@ public String jsonFor(final Object object, final JsonMapper.PrettyPrinting prett
         return JsonMapper.instance(prettyPrinting).write(object);
     }
 
+    /**
+     * Variant of {@link #jsonFor(Object, JsonMapper.PrettyPrinting)}, that has the JAX-RS container write
+     * the JSON directly to the response's {@link java.io.OutputStream}, rather than buffering it as a
+     * {@link String} first.
+     */
+    public StreamingOutput streamingJsonFor(final Object object, final JsonMapper.PrettyPrinting prettyPrinting) {
+        val jsonMapper = JsonMapper.instance(prettyPrinting);
+        return outputStream->jsonMapper.write(object, outputStream);
+    }
+
     public String jsonFor(final Object object, @Nullable final CausewaySystemEnvironment systemEnvironment) {
         val prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
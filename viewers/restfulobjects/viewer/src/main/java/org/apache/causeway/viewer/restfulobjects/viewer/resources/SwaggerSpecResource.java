@@ -19,7 +19,6 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import java.util.List;
-import java.util.concurrent.Callable;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -28,8 +27,11 @@
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import org.springframework.stereotype.Component;
 
@@ -38,7 +40,6 @@
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
 
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -52,6 +53,7 @@ public class SwaggerSpecResource {
 
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
+    @Context Request request;
 
     @Inject
     public SwaggerSpecResource(
@@ -68,8 +70,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +81,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +92,37 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    /**
+     * Responds with the spec and its ETag, or with <i>Not Modified</i> (304),
+     * if the client already holds the current spec (as per <code>If-None-Match</code>).
+     * <p>
+     * Both are obtained within the same interaction.
+     */
+    private Response swagger(final Visibility visibility) {
 
         val format = deriveFrom(httpHeaders);
-        val callable = new MyCallable(swaggerService, visibility, format);
 
-        val spec = interactionService.callAnonymous(callable);
-        return spec;
+        return interactionService.callAnonymous(()->{
+
+            val eTag = new EntityTag(swaggerService.generateSwaggerSpecETag(visibility, format));
+
+            val notModified = request.evaluatePreconditions(eTag);
+            if(notModified!=null) {
+                return notModified.build();
+            }
+
+            val spec = swaggerService.generateSwaggerSpec(visibility, format);
+            return Response.ok(spec)
+                    .tag(eTag)
+                    .build();
+        });
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -124,23 +143,4 @@ private Format deriveFrom(final HttpHeaders httpHeaders) {
         return Format.JSON;
     }
 
-    @RequiredArgsConstructor
-    static class MyCallable implements Callable<String> {
-
-        private final SwaggerService swaggerService;
-        private final Visibility visibility;
-        private final Format format;
-
-        @Override
-        public String call() throws Exception {
-
-//            return format==Format.YAML
-//                    ? _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.yaml", StandardCharsets.UTF_8)
-//                    : _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.json", StandardCharsets.UTF_8);
-
-            return swaggerService.generateSwaggerSpec(visibility, format);
-        }
-
-    }
-
 }
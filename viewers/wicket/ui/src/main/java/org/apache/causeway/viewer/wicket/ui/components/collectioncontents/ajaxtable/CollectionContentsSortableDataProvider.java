@@ -36,6 +36,8 @@
 import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelAbstract;
 import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataRowWkt;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 /**
@@ -48,6 +50,13 @@
 
     private final IModel<DataTableInteractive> dataTableModelHolder;
 
+    /**
+     * Memoizes the outcome of the last sort, such that paging through a (sorted) table
+     * does not re-sort all rows on every page request.
+     * Invalidated whenever the (filtered) rows or the sort parameter change.
+     */
+    private transient SortedRows sortedRows;
+
     public CollectionContentsSortableDataProvider(final IModel<DataTableInteractive> dataTableModelHolder) {
         this.dataTableModelHolder = dataTableModelHolder instanceof EntityCollectionModelAbstract
                 ? ((EntityCollectionModelAbstract)dataTableModelHolder).delegate()
@@ -77,7 +86,18 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
+        val dataTableModel = getDataTableModel();
+        val sort = getSort();
+        val sortProperty = lookupPropertyFor(sort).orElse(null);
+        if(dataTableModel.isQueryBacked()
+                && (sortProperty == null
+                    || dataTableModel.isQueryOrderingSupported(sortProperty))) {
+            // have the database do the paging and sorting
+            return dataTableModel.getDataRowsPage(skip, limit, sortProperty,
+                    sortProperty == null || sort.isAscending())
+                    .iterator();
+        }
+        val visibleRows = dataTableModel.getDataRowsFiltered().getValue();
         return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
@@ -86,11 +106,31 @@ public Iterator<DataRow> iterator(final long skip, final long limit) {
     private Can<DataRow> sorted(final Can<DataRow> dataRows) {
         val sort = getSort();
         val sortProperty = lookupPropertyFor(sort).orElse(null);
-        if(sortProperty != null) {
-            val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
-            return dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
+        if(sortProperty == null) {
+            return dataRows;
+        }
+        val memoized = this.sortedRows;
+        if(memoized != null
+                && memoized.isSortOf(dataRows, sort)) {
+            return memoized.getSorted();
+        }
+        val objComparator = ManagedObjects.orderingBy(sortProperty, sort.isAscending());
+        val sorted = dataRows.sorted((a, b)->objComparator.compare(a.getRowElement(), b.getRowElement()));
+        this.sortedRows = new SortedRows(dataRows, sort, sorted);
+        return sorted;
+    }
+
+    @RequiredArgsConstructor
+    private static class SortedRows {
+        private final Can<DataRow> unsorted;
+        private final SortParam<String> sort;
+        @Getter private final Can<DataRow> sorted;
+
+        boolean isSortOf(final Can<DataRow> dataRows, final SortParam<String> sort) {
+            // the filtered rows are memoized by the data table model, so identity suffices
+            return this.unsorted == dataRows
+                    && this.sort.equals(sort);
         }
-        return dataRows;
     }
 
     private Optional<OneToOneAssociation> lookupPropertyFor(final SortParam<String> sort) {